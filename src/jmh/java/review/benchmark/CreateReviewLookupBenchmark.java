@@ -0,0 +1,179 @@
+package review.benchmark;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+//리뷰 생성 사전 검증(ReviewCreateLookup) 지연 시간 - 순차 실행 vs 가상 스레드 동시 실행 (로컬 PostgreSQL 필요)
+//유저 조회, 주문 내역 조회, 중복 리뷰 확인을 실제 쿼리로 실행하고, 서비스와 같이 조회마다 커넥션 풀에서
+//읽기 전용 커넥션을 따로 받아 쓰고 바로 반납
+//remoteLatencyMs : 유저/주문 서비스가 OpenFeign 뒤로 갔을 때의 네트워크 왕복 (0 이면 DB 왕복만)
+//
+//접속 정보 (환경 변수) : REVIEW_BENCH_DB_URL, REVIEW_BENCH_DB_USER, REVIEW_BENCH_DB_PASSWORD
+//./gradlew jmh -PjmhInclude=CreateReviewLookupBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CreateReviewLookupBenchmark {
+
+    private static final int USER_COUNT = 100_000;
+    private static final int ORDER_COUNT = 1_000_000;
+
+    @Param({"0", "5", "20"})
+    private long remoteLatencyMs;
+
+    private HikariDataSource dataSource;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        final HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(env("REVIEW_BENCH_DB_URL", "jdbc:postgresql://localhost:5432/review_bench"));
+        config.setUsername(env("REVIEW_BENCH_DB_USER", "postgres"));
+        config.setPassword(env("REVIEW_BENCH_DB_PASSWORD", "postgres"));
+        config.setMaximumPoolSize(8);
+        dataSource = new HikariDataSource(config);
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_lookup_review, bench_lookup_order, bench_lookup_user");
+            statement.execute("CREATE TABLE bench_lookup_user (user_id bigint PRIMARY KEY, nickname text NOT NULL)");
+            statement.execute("CREATE TABLE bench_lookup_order (order_history_id uuid PRIMARY KEY, "
+                    + "user_id bigint NOT NULL, store_id uuid NOT NULL, completion_time timestamp NOT NULL)");
+            statement.execute("CREATE TABLE bench_lookup_review (review_id uuid PRIMARY KEY, "
+                    + "order_history_id uuid NOT NULL UNIQUE)");
+
+            statement.execute("INSERT INTO bench_lookup_user SELECT g, 'user' || g FROM generate_series(1, "
+                    + USER_COUNT + ") g");
+            //주문 id 는 md5(번호) 라서 자바에서도 같은 값을 만들 수 있음, 절반은 리뷰가 있는 주문
+            statement.execute("INSERT INTO bench_lookup_order SELECT md5(g::text)::uuid, g % " + USER_COUNT
+                    + " + 1, md5((g % 1000)::text)::uuid, now() - interval '1 day' FROM generate_series(1, "
+                    + ORDER_COUNT + ") g");
+            statement.execute("INSERT INTO bench_lookup_review SELECT gen_random_uuid(), order_history_id "
+                    + "FROM bench_lookup_order TABLESAMPLE BERNOULLI (50)");
+            statement.execute("VACUUM ANALYZE bench_lookup_user, bench_lookup_order, bench_lookup_review");
+        }
+    }
+
+    @Benchmark
+    public int sequential() throws Exception {
+        final Request request = Request.random();
+        return findUser(request).call() + findOrder(request).call() + reviewExists(request).call();
+    }
+
+    //ReviewCreateLookup 과 같은 구조 - 작업마다 가상 스레드, 결과는 원래 순서대로 기다림
+    @Benchmark
+    public int concurrentOnVirtualThreads() throws InterruptedException, ExecutionException {
+        final Request request = Request.random();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final Future<Integer> user = executor.submit(findUser(request));
+            final Future<Integer> order = executor.submit(findOrder(request));
+            final Future<Integer> reviewExists = executor.submit(reviewExists(request));
+            return user.get() + order.get() + reviewExists.get();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_lookup_review, bench_lookup_order, bench_lookup_user");
+        }
+        dataSource.close();
+    }
+
+    //유저, 주문 조회는 원격 서비스 호출로 바뀔 수 있으므로 remoteLatencyMs 만큼 추가 대기
+    private Callable<Integer> findUser(final Request request) {
+        return () -> {
+            remoteHop();
+            return count("SELECT nickname FROM bench_lookup_user WHERE user_id = ?", request.userId());
+        };
+    }
+
+    private Callable<Integer> findOrder(final Request request) {
+        return () -> {
+            remoteHop();
+            return count("SELECT user_id, store_id, completion_time FROM bench_lookup_order "
+                    + "WHERE order_history_id = ?", request.orderHistoryId());
+        };
+    }
+
+    private Callable<Integer> reviewExists(final Request request) {
+        return () -> count("SELECT 1 FROM bench_lookup_review WHERE order_history_id = ? LIMIT 1",
+                request.orderHistoryId());
+    }
+
+    //서비스의 읽기 전용 트랜잭션처럼 조회마다 커넥션을 받아서 쓰고 바로 반납
+    private int count(final String sql, final Object parameter) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setObject(1, parameter);
+                int count = 0;
+                try (ResultSet result = statement.executeQuery()) {
+                    while (result.next()) {
+                        count++;
+                    }
+                }
+                return count;
+            }
+        }
+    }
+
+    private void remoteHop() throws InterruptedException {
+        if (remoteLatencyMs > 0) {
+            Thread.sleep(remoteLatencyMs);
+        }
+    }
+
+    private static String env(final String name, final String defaultValue) {
+        final String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+
+    private record Request(long userId, UUID orderHistoryId) {
+
+        //md5(번호::text)::uuid 와 같은 값
+        private static Request random() {
+            final int order = ThreadLocalRandom.current().nextInt(1, ORDER_COUNT + 1);
+            return new Request(order % USER_COUNT + 1, md5Uuid(Integer.toString(order)));
+        }
+
+        private static UUID md5Uuid(final String value) {
+            try {
+                final byte[] md5 = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.US_ASCII));
+                final String hex = HexFormat.of().formatHex(md5);
+                return UUID.fromString(hex.substring(0, 8) + "-" + hex.substring(8, 12) + "-" + hex.substring(12, 16)
+                        + "-" + hex.substring(16, 20) + "-" + hex.substring(20));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
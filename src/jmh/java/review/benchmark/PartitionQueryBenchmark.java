@@ -0,0 +1,162 @@
+package review.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+//p_review 파티션 여부에 따른 조회 비용 (로컬 PostgreSQL 필요, 접속 정보는 UuidInsertBenchmark 와 같음)
+//- storePage : 가게 리뷰 최신순 20개 - 해시 파티션이면 파티션 하나만 읽음
+//- userPage  : 사용자 리뷰 최신순 20개 - 모든 파티션의 인덱스를 읽고 합침 (Merge Append)
+//- byId      : review_id 단건 - 모든 파티션의 PK 인덱스를 탐색
+//./gradlew jmh -PjmhInclude=PartitionQueryBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PartitionQueryBenchmark {
+
+    private static final int STORE_COUNT = 10_000;
+    private static final int USER_COUNT = 200_000;
+
+    //FLAT : 지금처럼 테이블 하나, HASH_16 : store_id 해시 파티션 16개
+    @Param({"FLAT", "HASH_16"})
+    private String layout;
+
+    @Param({"2000000"})
+    private int rows;
+
+    private Connection connection;
+    private PreparedStatement storePage;
+    private PreparedStatement userPage;
+    private PreparedStatement byId;
+    private String table;
+    private UUID[] sampleReviewIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                env("REVIEW_BENCH_DB_URL", "jdbc:postgresql://localhost:5432/review_bench"),
+                env("REVIEW_BENCH_DB_USER", "postgres"),
+                env("REVIEW_BENCH_DB_PASSWORD", "postgres"));
+        table = "bench_review_" + layout.toLowerCase(Locale.ROOT);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            final boolean partitioned = layout.startsWith("HASH");
+            statement.execute("CREATE TABLE " + table + " (review_id uuid NOT NULL, store_id uuid NOT NULL, "
+                    + "user_id bigint NOT NULL, rating integer NOT NULL, content text NOT NULL, "
+                    + "is_deleted boolean NOT NULL, created_at timestamp NOT NULL, PRIMARY KEY (review_id, store_id))"
+                    + (partitioned ? " PARTITION BY HASH (store_id)" : ""));
+            if (partitioned) {
+                final int modulus = Integer.parseInt(layout.substring("HASH_".length()));
+                for (int remainder = 0; remainder < modulus; remainder++) {
+                    statement.execute(String.format("CREATE TABLE %s_p%02d PARTITION OF %s "
+                            + "FOR VALUES WITH (MODULUS %d, REMAINDER %d)", table, remainder, table, modulus, remainder));
+                }
+            }
+
+            //가게 id 는 md5(가게 번호) 라서 자바에서도 같은 값을 만들 수 있음
+            statement.execute("INSERT INTO " + table + " SELECT gen_random_uuid(), md5((g % " + STORE_COUNT
+                    + ")::text)::uuid, g % " + USER_COUNT + ", g % 5 + 1, '맛있어요', false, "
+                    + "now() - g * interval '1 second' FROM generate_series(1, " + rows + ") g");
+            statement.execute("CREATE INDEX ON " + table + " (store_id, created_at DESC, review_id DESC) "
+                    + "WHERE is_deleted = false");
+            statement.execute("CREATE INDEX ON " + table + " (user_id, created_at DESC, review_id DESC) "
+                    + "WHERE is_deleted = false");
+            statement.execute("VACUUM ANALYZE " + table);
+        }
+
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(
+                     "SELECT review_id FROM " + table + " TABLESAMPLE SYSTEM (1) LIMIT 1000")) {
+            final List<UUID> ids = new ArrayList<>();
+            while (result.next()) {
+                ids.add(result.getObject(1, UUID.class));
+            }
+            sampleReviewIds = ids.toArray(UUID[]::new);
+        }
+
+        storePage = connection.prepareStatement("SELECT * FROM " + table + " WHERE store_id = ? AND is_deleted = false "
+                + "ORDER BY created_at DESC, review_id DESC LIMIT 20");
+        userPage = connection.prepareStatement("SELECT * FROM " + table + " WHERE user_id = ? AND is_deleted = false "
+                + "ORDER BY created_at DESC, review_id DESC LIMIT 20");
+        byId = connection.prepareStatement("SELECT * FROM " + table + " WHERE review_id = ?");
+    }
+
+    @Benchmark
+    public int storePage() throws SQLException {
+        storePage.setObject(1, storeId(ThreadLocalRandom.current().nextInt(STORE_COUNT)));
+        return count(storePage);
+    }
+
+    @Benchmark
+    public int userPage() throws SQLException {
+        userPage.setLong(1, ThreadLocalRandom.current().nextInt(USER_COUNT));
+        return count(userPage);
+    }
+
+    @Benchmark
+    public int byId() throws SQLException {
+        byId.setObject(1, sampleReviewIds[ThreadLocalRandom.current().nextInt(sampleReviewIds.length)]);
+        return count(byId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+        }
+        connection.close();
+    }
+
+    private static int count(final PreparedStatement statement) throws SQLException {
+        int count = 0;
+        try (ResultSet result = statement.executeQuery()) {
+            while (result.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    //md5(번호::text)::uuid 와 같은 값
+    private static UUID storeId(final int storeNumber) {
+        try {
+            final byte[] md5 = MessageDigest.getInstance("MD5")
+                    .digest(Integer.toString(storeNumber).getBytes(StandardCharsets.US_ASCII));
+            final String hex = HexFormat.of().formatHex(md5);
+            return UUID.fromString(hex.substring(0, 8) + "-" + hex.substring(8, 12) + "-" + hex.substring(12, 16)
+                    + "-" + hex.substring(16, 20) + "-" + hex.substring(20));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String env(final String name, final String defaultValue) {
+        final String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
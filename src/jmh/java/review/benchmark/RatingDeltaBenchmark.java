@@ -0,0 +1,61 @@
+package review.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import review.domain.repository.vo.Rating;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+//가게 평점 변경분 계산 비용
+//calculateRating 에 넘기는 BigDecimal (새 평점 - 기존 평점) 과 합계를
+//정수(long)로 계산했을 때와 비교
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RatingDeltaBenchmark {
+
+    //한 번의 flush 에서 합치는 변경분 개수
+    @Param({"50", "1000"})
+    private int deltaCount;
+
+    private Rating[] oldRatings;
+    private Rating[] newRatings;
+
+    @Setup
+    public void setUp() {
+        oldRatings = new Rating[deltaCount];
+        newRatings = new Rating[deltaCount];
+        for (int i = 0; i < deltaCount; i++) {
+            oldRatings[i] = new Rating(ThreadLocalRandom.current().nextInt(1, 6));
+            newRatings[i] = new Rating(ThreadLocalRandom.current().nextInt(1, 6));
+        }
+    }
+
+    //현재 방식 - Rating.getBigDecimalValue() 로 BigDecimal 생성 후 subtract, add
+    @Benchmark
+    public BigDecimal bigDecimalSum() {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int i = 0; i < deltaCount; i++) {
+            sum = sum.add(newRatings[i].getBigDecimalValue().subtract(oldRatings[i].getBigDecimalValue()));
+        }
+        return sum;
+    }
+
+    //비교용 - 평점은 정수이므로 long 으로만 계산
+    @Benchmark
+    public long longSum() {
+        long sum = 0;
+        for (int i = 0; i < deltaCount; i++) {
+            sum += newRatings[i].getValue() - oldRatings[i].getValue();
+        }
+        return sum;
+    }
+}
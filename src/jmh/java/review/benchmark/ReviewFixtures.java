@@ -0,0 +1,98 @@
+package review.benchmark;
+
+import review.domain.repository.vo.OrderHistory;
+import review.domain.repository.vo.Review;
+import review.domain.repository.vo.User;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+//벤치마크용 엔티티 생성
+//JPA 엔티티, 임베디드 타입은 모두 기본 생성자가 있으므로 기본 생성자 + 필드 주입으로 만든다.
+//DB, 스프링 컨텍스트 없이 매핑 비용만 측정하기 위함
+final class ReviewFixtures {
+
+    private static final LocalDateTime COMPLETION_TIME = LocalDateTime.of(2025, 2, 24, 12, 0);
+
+    private ReviewFixtures() {
+        throw new UnsupportedOperationException(
+                "유틸리티 클래스는 인스턴스를 바깥에서 생성할 수 없음");
+    }
+
+    //현실적인 길이(한글 80자 정도)의 리뷰 size 개 생성
+    static List<Review> reviews(final int size) {
+        final UUID storeId = UUID.randomUUID();
+        final List<Review> reviews = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final Review review = new Review(orderHistory(storeId, (long) i), user((long) i),
+                    content(i), i % 5 + 1, COMPLETION_TIME.plusHours(1));
+            set(review, "id", UUID.randomUUID());
+            reviews.add(review);
+        }
+        return reviews;
+    }
+
+    static String content(final int seed) {
+        return "음식이 정말 맛있었고 배달도 빨랐어요. 다음에도 또 주문할게요! 포장도 깔끔하고 양도 넉넉했습니다. #" + seed;
+    }
+
+    static LocalDateTime completionTime() {
+        return COMPLETION_TIME;
+    }
+
+    private static OrderHistory orderHistory(final UUID storeId, final Long userId) {
+        final OrderHistory orderHistory = instantiate(OrderHistory.class);
+        set(orderHistory, "id", UUID.randomUUID());
+        set(orderHistory, "storeId", storeId);
+        set(orderHistory, "userId", userId);
+        set(orderHistory, "completionTime", COMPLETION_TIME);
+        return orderHistory;
+    }
+
+    private static User user(final Long id) {
+        final User user = instantiate(User.class);
+        set(user, "id", id);
+
+        //닉네임은 임베디드 타입 - 타입을 몰라도 필드 타입으로 생성 후 value 주입
+        final Object nickname = instantiate(field(User.class, "nickname").getType());
+        set(nickname, "value", "닉네임" + id);
+        set(user, "nickname", nickname);
+        return user;
+    }
+
+    private static <T> T instantiate(final Class<T> type) {
+        try {
+            final Constructor<T> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void set(final Object target, final String name, final Object value) {
+        try {
+            field(target.getClass(), name).set(target, value);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //상위 클래스(TimeStamp 등)에 선언된 필드까지 찾음
+    private static Field field(final Class<?> type, final String name) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            try {
+                final Field field = current.getDeclaredField(name);
+                field.setAccessible(true);
+                return field;
+            } catch (NoSuchFieldException ignored) {
+                //상위 클래스에서 다시 찾기
+            }
+        }
+        throw new IllegalStateException(type.getSimpleName() + "." + name + " 필드가 없습니다.");
+    }
+}
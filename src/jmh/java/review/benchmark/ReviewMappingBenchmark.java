@@ -0,0 +1,62 @@
+package review.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import review.application.dto.response.ReviewListResponse;
+import review.application.dto.response.ReviewResponse;
+import review.domain.repository.vo.Review;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//ReviewResponse.of, ReviewListResponse.of / from 매핑 비용
+//페이지 크기별로 시간과 할당량(-prof gc)을 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReviewMappingBenchmark {
+
+    //실제 API에서 자주 쓰는 페이지 크기
+    @Param({"10", "50", "200"})
+    private int pageSize;
+
+    private Review single;
+    private Page<Review> entityPage;
+    private Page<ReviewResponse> responsePage;
+
+    @Setup
+    public void setUp() {
+        final List<Review> reviews = ReviewFixtures.reviews(pageSize);
+        single = reviews.get(0);
+        entityPage = new PageImpl<>(reviews, PageRequest.of(0, pageSize), 10_000);
+        responsePage = new PageImpl<>(reviews.stream().map(ReviewResponse::of).toList(),
+                PageRequest.of(0, pageSize), 10_000);
+    }
+
+    //리뷰 한 건 매핑 (단건 조회, 생성, 수정 응답)
+    @Benchmark
+    public ReviewResponse reviewResponseOf() {
+        return ReviewResponse.of(single);
+    }
+
+    //엔티티 페이지 -> stream().map().toList() 로 응답 생성
+    @Benchmark
+    public ReviewListResponse listResponseFromEntities() {
+        return ReviewListResponse.of(entityPage);
+    }
+
+    //projection 조회 결과를 그대로 담는 경우 (변환 없음)
+    @Benchmark
+    public ReviewListResponse listResponseFromProjection() {
+        return ReviewListResponse.from(responsePage);
+    }
+}
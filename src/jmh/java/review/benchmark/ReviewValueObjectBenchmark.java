@@ -0,0 +1,52 @@
+package review.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import review.domain.repository.vo.Rating;
+import review.domain.repository.vo.Review;
+import review.domain.repository.vo.ReviewContent;
+import review.domain.repository.vo.ReviewTime;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+//Review.update 가 매번 새로 만드는 임베디드 값 객체(ReviewContent, Rating, ReviewTime) 비용
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReviewValueObjectBenchmark {
+
+    private Review review;
+    private String content;
+    private LocalDateTime reviewTime;
+    private int rating;
+
+    @Setup
+    public void setUp() {
+        review = ReviewFixtures.reviews(1).get(0);
+        content = ReviewFixtures.content(1);
+        reviewTime = ReviewFixtures.completionTime().plusHours(2);
+    }
+
+    //리뷰 수정 한 번 (값 객체 3개 재생성 + 검증)
+    @Benchmark
+    public Review update() {
+        rating = rating % 5 + 1;
+        review.update(content, rating, reviewTime);
+        return review;
+    }
+
+    //값 객체별 생성 비용
+    @Benchmark
+    public void constructValueObjects(final Blackhole blackhole) {
+        blackhole.consume(new ReviewContent(content));
+        blackhole.consume(new Rating(3));
+        blackhole.consume(new ReviewTime(reviewTime, ReviewFixtures.completionTime()));
+    }
+}
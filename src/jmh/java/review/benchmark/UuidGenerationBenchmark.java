@@ -0,0 +1,31 @@
+package review.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import review.infrastructure.id.TimeOrderedUuids;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+//리뷰 id 생성 비용
+//여러 스레드가 동시에 만들 때 TimeOrderedUuids 의 CAS 경합이 UUID.randomUUID(SecureRandom) 보다 비싼지 확인
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class UuidGenerationBenchmark {
+
+    //기존 방식 - GenerationType.UUID (랜덤 UUID v4)
+    @Benchmark
+    public UUID randomV4() {
+        return UUID.randomUUID();
+    }
+
+    //변경 방식 - @TimeOrderedUuid (UUID v7)
+    @Benchmark
+    public UUID timeOrderedV7() {
+        return TimeOrderedUuids.next();
+    }
+}
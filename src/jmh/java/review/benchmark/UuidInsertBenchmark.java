@@ -0,0 +1,115 @@
+package review.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import review.infrastructure.id.TimeOrderedUuids;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+//id 생성 방식별 INSERT 처리량, PK 인덱스 크기 (로컬 PostgreSQL 필요)
+//p_review 와 비슷한 크기의 row 를 preloadRows 개 미리 넣어서 PK 인덱스가 커진 상태에서 측정
+//처리량 : 결과의 ops/s x BATCH_SIZE = 초당 INSERT row 수
+//인덱스 크기 : 종료 시 표준 출력에 pk 인덱스 크기와 row 수를 찍음
+//
+//접속 정보 (환경 변수) : REVIEW_BENCH_DB_URL, REVIEW_BENCH_DB_USER, REVIEW_BENCH_DB_PASSWORD
+//./gradlew jmh -PjmhInclude=UuidInsertBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UuidInsertBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"RANDOM_V4", "TIME_ORDERED_V7"})
+    private String strategy;
+
+    @Param({"1000000"})
+    private int preloadRows;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<UUID> idGenerator;
+    private String table;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                env("REVIEW_BENCH_DB_URL", "jdbc:postgresql://localhost:5432/review_bench"),
+                env("REVIEW_BENCH_DB_USER", "postgres"),
+                env("REVIEW_BENCH_DB_PASSWORD", "postgres"));
+        connection.setAutoCommit(false);
+
+        idGenerator = "RANDOM_V4".equals(strategy) ? UUID::randomUUID : TimeOrderedUuids::next;
+        table = "bench_review_" + strategy.toLowerCase(Locale.ROOT);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " (review_id uuid PRIMARY KEY, store_id uuid NOT NULL, "
+                    + "user_id bigint NOT NULL, rating integer NOT NULL, content text NOT NULL, "
+                    + "created_at timestamp NOT NULL DEFAULT now())");
+        }
+        connection.commit();
+
+        insert = connection.prepareStatement("INSERT INTO " + table
+                + " (review_id, store_id, user_id, rating, content) VALUES (?, ?, ?, ?, ?)");
+        for (int loaded = 0; loaded < preloadRows; loaded += BATCH_SIZE) {
+            insertBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("VACUUM ANALYZE " + table);
+        }
+    }
+
+    @Benchmark
+    public void insertBatch() throws SQLException {
+        final UUID storeId = UUID.randomUUID();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, idGenerator.get());
+            insert.setObject(2, storeId);
+            insert.setLong(3, i);
+            insert.setInt(4, i % 5 + 1);
+            insert.setString(5, "맛있어요. 배달도 빨랐고 양도 많았습니다. 다음에 또 주문할게요.");
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT count(*), pg_relation_size('" + table + "_pkey'), "
+                     + "pg_relation_size('" + table + "') FROM " + table)) {
+            result.next();
+            System.out.printf("%n[UuidInsertBenchmark] %s rows=%d pk_index=%.1fMB table=%.1fMB%n", strategy,
+                    result.getLong(1), result.getLong(2) / 1048576.0, result.getLong(3) / 1048576.0);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    private static String env(final String name, final String defaultValue) {
+        final String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -0,0 +1,117 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+//Java 마이그레이션에서 같이 쓰는 조회, 인덱스 생성
+//p_review 는 ReviewPartitionMigrator 로 파티션 테이블로 바뀔 수 있어서
+//SQL 파일 하나로는 두 경우를 모두 처리할 수 없는 마이그레이션만 Java 로 작성한다.
+final class ReviewMigrationSupport {
+
+    private ReviewMigrationSupport() {
+    }
+
+    //테이블이 파티션 테이블(relkind = 'p')인지
+    static boolean isPartitioned(final Connection connection, final String table) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT relkind = 'p' FROM pg_class WHERE oid = to_regclass(?)")) {
+            statement.setString(1, table);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    //CONCURRENTLY 로 만들다 실패하면 INVALID 상태의 인덱스가 남고,
+    //IF NOT EXISTS 는 이름만 보고 건너뛰기 때문에 다시 실행해도 인덱스가 만들어지지 않는다. -> 먼저 지움
+    static void dropIfInvalid(final Connection connection, final String index) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT 1 FROM pg_index WHERE indexrelid = to_regclass(?) AND NOT indisvalid")) {
+            statement.setString(1, index);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (!rs.next()) {
+                    return;
+                }
+            }
+        }
+        execute(connection, "DROP INDEX CONCURRENTLY " + index);
+    }
+
+    //파티션 테이블에 CONCURRENTLY 인덱스 만들기
+    //파티션 테이블에는 CREATE INDEX CONCURRENTLY 를 쓸 수 없으므로
+    //1. 부모에 ON ONLY 로 빈 인덱스(INVALID)를 만들고
+    //2. 파티션마다 CONCURRENTLY 로 만든 뒤 부모 인덱스에 ATTACH (하위 파티션이 있으면 같은 방식으로 한 단계 더)
+    //3. 모든 파티션이 붙으면 부모 인덱스는 자동으로 VALID 가 됨
+    //파티션 인덱스 이름 : 파티션 이름 + "_" + suffix (예: p_review_p00_store_review_time_live)
+    static void createIndexOnPartitions(final Connection connection, final String table, final String index,
+                                        final String suffix, final String definition) throws SQLException {
+        execute(connection, "CREATE INDEX IF NOT EXISTS " + index + " ON ONLY " + table + " " + definition);
+
+        for (Map.Entry<String, Boolean> partition : partitions(connection, table).entrySet()) {
+            final String child = partition.getKey();
+            final String childIndex = child + "_" + suffix;
+            if (partition.getValue()) {
+                createIndexOnPartitions(connection, child, childIndex, suffix, definition);
+            } else {
+                dropIfInvalid(connection, childIndex);
+                execute(connection, "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + childIndex + " ON " + child
+                        + " " + definition);
+            }
+            if (!isAttached(connection, childIndex, index)) {
+                execute(connection, "ALTER INDEX " + index + " ATTACH PARTITION " + childIndex);
+            }
+        }
+    }
+
+    //바로 아래 파티션 이름 -> 파티션 테이블(하위 파티션이 있는지) 여부
+    private static Map<String, Boolean> partitions(final Connection connection, final String table)
+            throws SQLException {
+        final Map<String, Boolean> partitions = new LinkedHashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement("""
+                SELECT c.relname, c.relkind = 'p' FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = to_regclass(?)
+                ORDER BY c.relname
+                """)) {
+            statement.setString(1, table);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    partitions.put(rs.getString(1), rs.getBoolean(2));
+                }
+            }
+        }
+        return partitions;
+    }
+
+    private static boolean isAttached(final Connection connection, final String childIndex, final String index)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT 1 FROM pg_inherits WHERE inhrelid = to_regclass(?) AND inhparent = to_regclass(?)")) {
+            statement.setString(1, childIndex);
+            statement.setString(2, index);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    static boolean exists(final Connection connection, final String relation) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT to_regclass(?) IS NOT NULL")) {
+            statement.setString(1, relation);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private static void execute(final Connection connection, final String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
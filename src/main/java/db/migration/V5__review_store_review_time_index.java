@@ -0,0 +1,42 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+//가게별 기간 평점 추이 재구축용 (StoreRatingTrendAggregator)
+//store_id + review_time 범위 조회를 rating 까지 인덱스만 읽고 처리 (index only scan)
+//
+//p_review 가 이미 파티션 테이블로 바뀐 DB 에서는 CREATE INDEX CONCURRENTLY 가 실패하므로
+//- 파티션 준비 때 같은 인덱스(idx_review_part_store_review_time_live)를 만들었으면 건너뜀
+//- 아니면 파티션마다 CONCURRENTLY 로 만들어서 부모 인덱스에 붙임
+public class V5__review_store_review_time_index extends BaseJavaMigration {
+
+    private static final String INDEX = "idx_review_store_review_time_live";
+    private static final String DEFINITION = "(store_id, review_time) INCLUDE (rating) WHERE is_deleted = false";
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(final Context context) throws Exception {
+        final Connection connection = context.getConnection();
+        if (!ReviewMigrationSupport.isPartitioned(connection, "p_review")) {
+            ReviewMigrationSupport.dropIfInvalid(connection, INDEX);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + INDEX + " ON p_review " + DEFINITION);
+            }
+            return;
+        }
+
+        if (ReviewMigrationSupport.exists(connection, "idx_review_part_store_review_time_live")) {
+            return;
+        }
+        ReviewMigrationSupport.createIndexOnPartitions(connection, "p_review", INDEX, "store_review_time_live",
+                DEFINITION);
+    }
+}
@@ -0,0 +1,51 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+//주문당 리뷰 하나 유니크 인덱스 (uk_review_order_history_id)
+//엔티티의 @UniqueConstraint 는 ddl-auto 를 쓰지 않으므로 DB 에 만들어지지 않는다.
+//블룸 필터가 중복 확인을 건너뛴 경우 이 인덱스가 중복 리뷰를 막는 마지막 장치
+//
+//- CONCURRENTLY : 만드는 동안 리뷰 INSERT/UPDATE 를 막지 않음 (트랜잭션 밖에서 실행)
+//- p_review 가 이미 파티션 테이블이면 건너뜀
+//  (파티션 테이블에는 파티션 키가 들어간 uk_review_part_order_history_id 가 같은 역할을 함)
+public class V9__review_order_history_unique_index extends BaseJavaMigration {
+
+    private static final String INDEX = "uk_review_order_history_id";
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(final Context context) throws Exception {
+        final Connection connection = context.getConnection();
+        if (ReviewMigrationSupport.isPartitioned(connection, "p_review")) {
+            return;
+        }
+
+        ReviewMigrationSupport.dropIfInvalid(connection, INDEX);
+        try (Statement statement = connection.createStatement()) {
+            //이미 중복이 있으면 인덱스 생성이 실패하므로 어떤 주문인지 먼저 알려줌 (정리 후 다시 실행)
+            try (ResultSet rs = statement.executeQuery("""
+                    SELECT order_history_id FROM p_review
+                    GROUP BY order_history_id HAVING COUNT(*) > 1
+                    LIMIT 10
+                    """)) {
+                if (rs.next()) {
+                    throw new IllegalStateException(
+                            "리뷰가 두 개 이상인 주문이 있어 유니크 인덱스를 만들 수 없습니다. - 예시 orderHistoryId : "
+                                    + rs.getObject(1));
+                }
+            }
+            statement.execute("CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS " + INDEX
+                    + " ON p_review (order_history_id)");
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package review.application;
+
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import review.application.filter.ReviewedOrderFilter;
+import review.domain.repository.ReviewRepository;
+import review.exception.ReviewAlreadyExistsException;
+import review.exception.ReviewForbiddenException;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+//리뷰 생성 전 사전 검증 - 유저 조회, 주문 내역 조회, 중복 리뷰 확인
+//세 조회는 서로 의존하지 않으므로 가상 스레드에서 동시에 실행 -> 각 서비스가 OpenFeign 뒤로 가도
+//네트워크 왕복 3번을 기다리는 대신 가장 느린 1번만 기다리면 된다.
+//리뷰 저장 트랜잭션을 열기 전에 실행하므로 요청 스레드는 커넥션을 잡고 있지 않다.
+//조회마다 읽기 전용 트랜잭션(커넥션 하나)을 따로 열고 끝나면 바로 반납 -> 커넥션을 잡은 채 다른 커넥션을 기다리는 교착이 없음
+@Component
+public class ReviewCreateLookup {
+
+    private final UserService userService;
+    private final OrderHistoryService orderHistoryService;
+    private final ReviewRepository reviewRepository;
+    private final ReviewedOrderFilter reviewedOrderFilter;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ReviewCreateLookup(UserService userService,
+                              OrderHistoryService orderHistoryService,
+                              ReviewRepository reviewRepository,
+                              ReviewedOrderFilter reviewedOrderFilter,
+                              PlatformTransactionManager transactionManager) {
+        this.userService = userService;
+        this.orderHistoryService = orderHistoryService;
+        this.reviewRepository = reviewRepository;
+        this.reviewedOrderFilter = reviewedOrderFilter;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    //검증을 통과하면 리뷰 작성에 필요한 유저, 주문 내역 반환
+    //예외는 순차 실행했을 때와 같은 우선순위로 던짐
+    //유저 없음 -> 주문 없음 -> 본인 주문 아님(ReviewForbiddenException) -> 이미 리뷰 있음(ReviewAlreadyExistsException)
+    public Target lookUp(final Long userId, final UUID orderHistoryId) {
+        //작업 스레드에도 로그인 정보를 넘겨서 복제본 라우팅(read-your-writes)이 요청 스레드와 같게 동작
+        try (ExecutorService executor = new DelegatingSecurityContextExecutorService(
+                Executors.newVirtualThreadPerTaskExecutor())) {
+            final Future<User> userFuture = executor.submit(
+                    () -> inReadOnlyTransaction(() -> userService.getUserOrElseThrow(userId)));
+            final Future<OrderHistory> orderHistoryFuture = executor.submit(
+                    () -> inReadOnlyTransaction(() -> orderHistoryService.getOrderHistoryOrElseThrow(orderHistoryId)));
+            final Future<Boolean> reviewExistsFuture = executor.submit(
+                    () -> inReadOnlyTransaction(() -> reviewExists(orderHistoryId)));
+
+            try {
+                final User user = await(userFuture);
+                final OrderHistory orderHistory = await(orderHistoryFuture);
+
+                //주문한 사람이 맞는지 확인, 아니면 예외 발생
+                if (!orderHistory.getUserId().equals(userId)) {
+                    throw new ReviewForbiddenException();
+                }
+
+                //복제본에서 읽어 방금 작성된 리뷰를 못 봤더라도 저장 시 유니크 제약으로 같은 예외가 남
+                if (await(reviewExistsFuture)) {
+                    throw new ReviewAlreadyExistsException(orderHistoryId);
+                }
+                return new Target(user, orderHistory);
+            } finally {
+                //하나라도 실패하면 아직 실행 중인 조회는 기다리지 않고 취소
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    //동일한 주문에 대해 리뷰가 이미 등록됐는지
+    //필터가 확실히 없다고 하면 DB 조회를 건너뜀 (대부분의 주문은 리뷰가 없음)
+    private boolean reviewExists(final UUID orderHistoryId) {
+        if (!reviewedOrderFilter.mightContain(orderHistoryId)) {
+            return false;
+        }
+        final boolean exists = reviewRepository.existsByOrderHistoryId(orderHistoryId);
+        reviewedOrderFilter.recordLookup(exists);
+        return exists;
+    }
+
+    private <T> T inReadOnlyTransaction(final Supplier<T> lookup) {
+        return readOnlyTransaction.execute(status -> lookup.get());
+    }
+
+    //가상 스레드 작업 결과를 기다림
+    //작업에서 발생한 예외를 그대로 다시 던져서 순차 실행했을 때와 같은 예외가 컨트롤러까지 전달되게 함
+    private static <T> T await(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //저장 트랜잭션 밖에서 읽은 엔티티 (detached)
+    //새 리뷰의 연관관계(FK)와 ReviewResponse 에 필요한 값은 이미 읽혀 있으므로 그대로 사용 가능
+    public record Target(User user, OrderHistory orderHistory) {
+    }
+}
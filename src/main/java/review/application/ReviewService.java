@@ -1,67 +1,284 @@
 package review.application;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import review.application.cache.CachedResponse;
+import review.application.cache.ReviewResponseCache;
+import review.application.cache.StoreReviewPageCache;
+import review.application.dto.request.ReviewBulkCreateRequest;
 import review.application.dto.request.ReviewCreateRequest;
 import review.application.dto.request.ReviewUpdateRequest;
+import review.application.dto.response.ReviewBulkCreateResponse;
+import review.application.dto.response.ReviewBulkCreateResponse.ItemResult;
+import review.application.dto.response.ReviewBulkCreateResponse.Status;
+import review.application.dto.response.ReviewCursorResponse;
 import review.application.dto.response.ReviewListResponse;
 import review.application.dto.response.ReviewResponse;
+import review.application.dto.response.ReviewSliceResponse;
+import review.application.dto.response.StoreRatingSummaryResponse;
+import review.application.dto.response.StoreRatingTrendResponse;
+import review.application.event.ReviewChangedEvent;
+import review.application.filter.ReviewedOrderFilter;
+import review.application.search.ReviewSearchIndex;
+import review.application.trend.StoreRatingTrendAggregator;
 import review.domain.repository.ReviewRepository;
+import review.domain.repository.StoreRatingSummaryRepository;
+import review.domain.repository.UserReviewCountRepository;
 import review.domain.repository.vo.Review;
+import review.domain.repository.vo.ReviewCursor;
+import review.domain.repository.vo.StarCounts;
+import review.domain.repository.vo.StoreRatingSummary;
+import review.enums.ReviewChangeType;
+import review.enums.ReviewSortType;
 import review.enums.UserRoleEnum;
 import review.exception.ReviewAlreadyExistsException;
 import review.exception.ReviewForbiddenException;
 import review.exception.ReviewNotFoundException;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 @Service  //비지니스 로직 담당
 @RequiredArgsConstructor //final 필드 자동으로 주입하는 lombok 어노테이션
 @Transactional(readOnly = true) //읽기 전용 트랜잭션 적용 성능 최적화
+//모든 public 메소드 실행 시간을 review.service{class, method} 지표로 기록 (히스토그램 포함)
+@Timed(value = "review.service", histogram = true)
 public class ReviewService {
 
+    //일괄 생성 시 한 번에 저장(flush)하는 리뷰 수 - hibernate.jdbc.batch_size 와 맞춤
+    private static final int BULK_SAVE_CHUNK_SIZE = 500;
+
+    //내보내기 시 DB에서 한 번에 가져오는 row 수
+    private static final int EXPORT_FETCH_SIZE = 500;
+
+    //주문당 리뷰 하나 제약조건 이름 (V9 유니크 인덱스, 파티션 테이블로 교체된 뒤의 유니크 제약)
+    private static final Set<String> ORDER_HISTORY_UNIQUE_CONSTRAINTS = Set.of(
+            "uk_review_order_history_id", "uk_review_part_order_history_id");
+
     private final UserService userService;
-    private final OrderHistoryService orderHistoryService;
     private final StoreService storeService;
     private final ReviewRepository reviewRepository;
+    private final StoreRatingSummaryRepository storeRatingSummaryRepository;
+    private final StoreRatingAggregator storeRatingAggregator;
+    private final StoreRatingTrendAggregator storeRatingTrendAggregator;
+    private final ReviewResponseCache reviewResponseCache;
+    private final StoreReviewPageCache storeReviewPageCache;
+    private final UserReviewCountRepository userReviewCountRepository;
+    private final ReviewSearchIndex reviewSearchIndex;
+    private final ReviewedOrderFilter reviewedOrderFilter;
+    private final ReviewCreateLookup reviewCreateLookup;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
 
     //리뷰생성 service
     //새로운 리뷰 생성, 가게 평점 업데이트
-    @Transactional //DB변경이 발생하므로 어노테이션 적용
+    //사전 검증(유저, 주문 내역, 중복 확인)은 트랜잭션 밖에서 동시에 실행 (ReviewCreateLookup)
+    //저장만 쓰기 트랜잭션 안에서 실행 - 같은 클래스 안의 호출에는 @Transactional 이 적용되지 않으므로 transactionTemplate 사용
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ReviewResponse createReview(final UUID orderHistoryId, final ReviewCreateRequest request,
                                        final UserDetailsImpl userDetails) {
 
         //현재 로그인한 userId를 가져와사 db에서 정보를 찾음.
         final Long userId = userDetails.getUserId();
-        final User user = userService.getUserOrElseThrow(userId); //없으면 예외 발생
-
-        //orderHistoryId에 해당하는 주문 내역을 가져옴, 주문 내역이 없다면 예외 발생
-        final OrderHistory orderHistory = orderHistoryService.getOrderHistoryOrElseThrow(orderHistoryId);
 
-        validateUser(orderHistory.getUserId(), userId); 
+        //없는 유저/주문, 본인 주문 아님, 이미 리뷰 있음이면 예외 발생
+        final ReviewCreateLookup.Target target = reviewCreateLookup.lookUp(userId, orderHistoryId);
 
-        checkIfReviewExists(orderHistoryId);
+        return transactionTemplate.execute(status -> insertReview(orderHistoryId, request, target));
+    }
 
+    private ReviewResponse insertReview(final UUID orderHistoryId, final ReviewCreateRequest request,
+                                        final ReviewCreateLookup.Target target) {
         //새로운 리뷰 객체 생성, save를 통해 저장
-        final Review review = new Review(orderHistory, user, request.content(), request.rating(), request.reviewTime());
-        final Review saved = reviewRepository.save(review);
+        final Review review = new Review(target.orderHistory(), target.user(), request.content(), request.rating(),
+                request.reviewTime());
+        final Review saved = saveNewReview(review, orderHistoryId);
 
-        //가게 평점 계산 업데이트
-        storeService.calculateRating(saved.getStoreId(),
-                1, // 리뷰 개수를 증가
-                BigDecimal.ZERO,  //기존 리뷰 평점 (없으므로 0)
-                review.getRating().getBigDecimalValue()); // 새로 작성된 평점
+        //가게 평점 변경분 기록 -> 가게 row는 StoreRatingAggregator가 주기적으로 한 번에 반영
+        //새로 작성된 평점의 별점 개수 +1 (리뷰 개수 +1, 평점 합계 + 새 평점)
+        storeRatingAggregator.record(saved.getStoreId(),
+                StarCounts.created(saved.getRating().getValue()));
+
+        //커밋 후 캐시 등 부가 작업을 처리하도록 이벤트 발행
+        publishChanged(ReviewChangeType.CREATED, saved);
 
         return ReviewResponse.of(saved); //저장된 리뷰 정보 반환
     }
     
+    //리뷰 일괄 생성 service
+    //주문 조회, 중복 확인을 건마다 하지 않고 전체 요청에 대해 쿼리 한 번씩만 실행
+    //INSERT는 JDBC batch로 묶고, 가게 평점 변경분도 가게별로 한 번만 기록
+    @Transactional
+    public ReviewBulkCreateResponse createReviews(final ReviewBulkCreateRequest request,
+                                                  final UserDetailsImpl userDetails) {
+
+        final Long userId = userDetails.getUserId();
+        final User user = userService.getUserOrElseThrow(userId);
+
+        final List<ReviewBulkCreateRequest.Item> items = request.items();
+        final Set<UUID> orderHistoryIds = items.stream()
+                .filter(Objects::nonNull)
+                .map(ReviewBulkCreateRequest.Item::orderHistoryId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        //주문 내역, 이미 리뷰가 있는 주문을 한 번에 조회
+        final Map<UUID, OrderHistory> orderHistories = reviewRepository
+                .findOrderHistoriesByIds(orderHistoryIds).stream()
+                .collect(Collectors.toMap(OrderHistory::getId, Function.identity()));
+        //단건과 달리 블룸 필터로 건너뛰지 않고 전체를 확인 (IN 쿼리 한 번이라 건너뛰어도 절약이 거의 없음)
+        //필터가 놓친 중복이 batch INSERT 까지 가면 어느 건이 중복인지 알 수 없어 건별 결과를 줄 수 없기 때문
+        final Set<UUID> reviewedOrderHistoryIds = reviewRepository.findReviewedOrderHistoryIds(orderHistoryIds);
+
+        //요청 순서대로 결과를 채우기 위해 배열 사용
+        final ItemResult[] results = new ItemResult[items.size()];
+        final Set<UUID> seenOrderHistoryIds = new HashSet<>();
+        final List<Review> pending = new ArrayList<>();
+        final List<Integer> pendingIndexes = new ArrayList<>();
+        final Map<UUID, StarCounts> starDeltasByStore = new HashMap<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            final ReviewBulkCreateRequest.Item item = items.get(i);
+            final String invalidMessage = validateItem(item);
+            final UUID orderHistoryId = item == null ? null : item.orderHistoryId();
+            final OrderHistory orderHistory = orderHistoryId == null ? null : orderHistories.get(orderHistoryId);
+
+            if (invalidMessage != null) {
+                results[i] = ItemResult.failed(orderHistoryId, Status.INVALID, invalidMessage);
+            } else if (!seenOrderHistoryIds.add(orderHistoryId)) {
+                results[i] = ItemResult.failed(orderHistoryId, Status.DUPLICATED_IN_REQUEST, null);
+            } else if (orderHistory == null) {
+                results[i] = ItemResult.failed(orderHistoryId, Status.ORDER_NOT_FOUND, null);
+            } else if (!orderHistory.getUserId().equals(userId)) {
+                results[i] = ItemResult.failed(orderHistoryId, Status.FORBIDDEN,
+                        new ReviewForbiddenException().getMessage());
+            } else if (reviewedOrderHistoryIds.contains(orderHistoryId)) {
+                results[i] = ItemResult.failed(orderHistoryId, Status.ALREADY_EXISTS,
+                        new ReviewAlreadyExistsException(orderHistoryId).getMessage());
+            } else {
+                final ReviewCreateRequest review = item.review();
+                try {
+                    pending.add(new Review(orderHistory, user, review.content(), review.rating(),
+                            review.reviewTime()));
+                    pendingIndexes.add(i);
+                } catch (RuntimeException e) {
+                    //리뷰 내용, 평점, 작성 시간 검증 실패는 해당 건만 실패 처리
+                    results[i] = ItemResult.failed(orderHistoryId, Status.INVALID, e.getMessage());
+                }
+            }
+
+            if (pending.size() == BULK_SAVE_CHUNK_SIZE || (i == items.size() - 1 && !pending.isEmpty())) {
+                saveBulkChunk(pending, pendingIndexes, results, starDeltasByStore);
+            }
+        }
+
+        //가게별로 모은 평점 변경분을 한 번씩만 기록
+        starDeltasByStore.forEach(storeRatingAggregator::record);
+
+        return ReviewBulkCreateResponse.of(Arrays.asList(results));
+    }
+
+    //일괄 생성 한 건의 요청 값 검증 (주문 id, 평점 등) - 통과하면 null, 실패하면 메시지
+    //요청 전체에 @Valid 를 걸면 한 건만 잘못돼도 전체가 400 이 되므로 건별로 검증
+    private String validateItem(final ReviewBulkCreateRequest.Item item) {
+        if (item == null) {
+            return "리뷰 내용이 없습니다.";
+        }
+        final Set<ConstraintViolation<ReviewBulkCreateRequest.Item>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    //모아둔 리뷰를 batch INSERT 하고 결과, 가게별 평점 변경분을 채움
+    private void saveBulkChunk(final List<Review> pending, final List<Integer> pendingIndexes,
+                               final ItemResult[] results,
+                               final Map<UUID, StarCounts> starDeltasByStore) {
+
+        final List<Review> saved;
+        try {
+            saved = reviewRepository.saveAllAndClear(pending);
+        } catch (DataIntegrityViolationException e) {
+            //중복 확인 이후 같은 주문의 리뷰가 동시에 저장된 경우 (중복 제출)
+            //트랜잭션이 이미 실패한 상태라 건별로 나눌 수 없으므로 요청 전체를 중복 리뷰로 실패 처리
+            if (isOrderHistoryUniqueViolation(e)) {
+                throw new ReviewAlreadyExistsException(pending.stream()
+                        .map(review -> review.getOrderHistory().getId())
+                        .toList());
+            }
+            throw e;
+        }
+
+        for (int j = 0; j < saved.size(); j++) {
+            final Review review = saved.get(j);
+            results[pendingIndexes.get(j)] = ItemResult.created(review.getOrderHistory().getId(),
+                    review.getId());
+            reviewedOrderFilter.put(review.getOrderHistory().getId());
+
+            starDeltasByStore.merge(review.getStoreId(),
+                    StarCounts.created(review.getRating().getValue()), StarCounts::plus);
+
+            publishChanged(ReviewChangeType.CREATED, review);
+        }
+
+        pending.clear();
+        pendingIndexes.clear();
+    }
+
+    //새 리뷰 저장
+    //중복 확인을 필터로 건너뛴 경우에도 유니크 제약조건 위반은 바로 flush 해서 기존과 같은 예외로 변환
+    //주문당 리뷰 하나 제약 위반만 변환하고, 다른 제약(NOT NULL, FK 등) 위반은 그대로 던짐
+    private Review saveNewReview(final Review review, final UUID orderHistoryId) {
+        try {
+            final Review saved = reviewRepository.saveAndFlush(review);
+            reviewedOrderFilter.put(orderHistoryId);
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            if (isOrderHistoryUniqueViolation(e)) {
+                throw new ReviewAlreadyExistsException(orderHistoryId);
+            }
+            throw e;
+        }
+    }
+
+    //주문당 리뷰 하나 제약 위반인지 제약조건 이름으로 확인
+    private static boolean isOrderHistoryUniqueViolation(final DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException cause
+                && cause.getConstraintName() != null
+                && ORDER_HISTORY_UNIQUE_CONSTRAINTS.contains(cause.getConstraintName());
+    }
+
     //37번째 줄
     //주문한 사람이 맞는지 확인, 아니면 예외 발생
     private void validateUser(Long requestId, Long expectedId) {
@@ -70,13 +287,6 @@ public class ReviewService {
         }
     }
 
-    //동일한 주문에 대해 리뷰가 이미 등록된 경우 예외 발생
-    private void checkIfReviewExists(final UUID orderHistoryId) {
-        if (reviewRepository.existsByOrderHistoryId(orderHistoryId)) {
-            throw new ReviewAlreadyExistsException(orderHistoryId);
-        }
-    }
-
     //리뷰 수정 service, 가게 평점 update
     @Transactional //DB변경이 발생하므로 어노테이션 적용
     public ReviewResponse updateReview(final UUID reviewId, final ReviewUpdateRequest request,
@@ -89,12 +299,15 @@ public class ReviewService {
         validateUser(review.getUser().getId(), userDetails.getUserId());
 
         //기존 평점 저장 후 리뷰 수정 -> 새 리뷰 정보로 업데이트
-        final BigDecimal oldRating = review.getRating().getBigDecimalValue();
+        final Integer oldRating = review.getRating().getValue();
+        final LocalDateTime oldReviewTime = review.getReviewTime().getValue();
         review.update(request.content(), request.rating(), request.reviewTime());
-        final BigDecimal newRating = review.getRating().getBigDecimalValue();
+        final Integer newRating = review.getRating().getValue();
+
+        //가게 평점 변경분 기록 - 리뷰 개수는 그대로, oldRating 별점 -1, newRating 별점 +1
+        storeRatingAggregator.record(review.getStoreId(), StarCounts.updated(oldRating, newRating));
 
-        //가게 평점 다시 계산 - 0 : 리뷰 개수는 그대로, oldRating 이전 평점, newRation 수정된 평점
-        storeService.calculateRating(review.getStoreId(), 0, oldRating, newRating);
+        publishChanged(ReviewChangeType.UPDATED, review, oldRating, oldReviewTime);
 
         //수정된 리뷰 반환
         return ReviewResponse.of(review);
@@ -114,18 +327,36 @@ public class ReviewService {
         //리뷰 삭제
         review.softDelete();
 
-        //가게 평점 다시 계산 : -1 : 리뷰 감소, 
-        storeService.calculateRating(review.getStoreId(), -1,
-                review.getRating().getBigDecimalValue(), // 삭제된 리뷰의 기존 평점
-                BigDecimal.ZERO); //삭제된 평점 처리
+        //가게 평점 변경분 기록 : 삭제된 리뷰의 기존 별점 -1 (리뷰 개수 -1, 평점 합계 - 기존 평점)
+        storeRatingAggregator.record(review.getStoreId(),
+                StarCounts.deleted(review.getRating().getValue()));
+
+        publishChanged(ReviewChangeType.DELETED, review);
+    }
+
+    //리뷰 변경 이벤트 발행
+    //리스너들은 트랜잭션 커밋 후에 실행됨
+    private void publishChanged(final ReviewChangeType type, final Review review) {
+        publishChanged(type, review, null, null);
+    }
+
+    //수정일 때는 수정 전 평점, 작성 시간도 함께 (기간별 평점 추이에서 이전 값을 빼기 위해)
+    private void publishChanged(final ReviewChangeType type, final Review review,
+                                final Integer previousRating, final LocalDateTime previousReviewTime) {
+        eventPublisher.publishEvent(new ReviewChangedEvent(type, review.getId(),
+                review.getStoreId(), review.getUser().getId(), review.getContent().getValue(),
+                review.getRating().getValue(), review.getReviewTime().getValue(),
+                previousRating, previousReviewTime));
     }
 
     //리뷰 조회 기능
     //특정 리뷰(reviewId)로 조회하는 기능, 없으면 예외처리
-    public ReviewResponse getReviewInfo(final UUID reviewId) {
+    //캐시에 올라간 응답이면 ETag 도 함께 반환 (ReviewController 의 조건부 GET)
+    public CachedResponse<ReviewResponse> getReviewInfo(final UUID reviewId) {
         
-        //찾으면 리뷰 객체를 ReviewResponse 형태로 변환 후 반환
-        return ReviewResponse.of(getReviewOrElseThrow(reviewId));
+        //캐시에 있으면 DB 조회 없이 반환, 없으면 ReviewResponse를 쿼리 한 번으로 조회 후 캐시에 저장
+        return reviewResponseCache.get(reviewId, id -> reviewRepository.findResponseById(id)
+                .orElseThrow(() -> new ReviewNotFoundException(id)));
     }
     
     //위의 함수 - 115번째 
@@ -136,60 +367,176 @@ public class ReviewService {
     }
 
     //특정 가게의 리뷰 목록을 페이징 처리
-    public ReviewListResponse getReviewsByStoreId(final UUID storeId, final int page,
-                                                  final int size,
-                                                  final String sortBy, final boolean isAsc) {
+    public CachedResponse<ReviewListResponse> getReviewsByStoreId(final UUID storeId, final int page,
+                                                                  final int size,
+                                                                  final ReviewSortType sortType) {
 
-        storeService.getStoreOrElseThrow(storeId);
-        
-        //맨 아래 createPageable 함수
-        final Pageable pageable = createPageable(page, size, sortBy, isAsc);
-        
-        //DB에서 storeId에 해당하는 리뷰들 들고오기
-        Page<Review> reviews = reviewRepository.findAllByStoreId(storeId, pageable);
+        //앞쪽 페이지는 캐시에서 바로 반환, 캐시에 없을 때만 아래 조회 실행
+        return storeReviewPageCache.get(storeId, page, size, sortType, () -> {
+            storeService.getStoreOrElseThrow(storeId);
+
+            //맨 아래 createPageable 함수
+            final Pageable pageable = createPageable(page, size, sortType);
 
-        //review를 ReviewListResponse로 변환(DTO로 변환하는 메소드 of())
-        //DTO로 변환해 내려주기
-        return ReviewListResponse.of(reviews);
+            //DB에서 storeId에 해당하는 리뷰들을 ReviewResponse 형태로 바로 들고오기
+            //엔티티를 조회한 뒤 변환하면 user 지연 로딩 때문에 리뷰 개수만큼 쿼리가 추가로 나감 (N+1)
+            Page<ReviewResponse> reviews = reviewRepository.findResponsesByStoreId(storeId, pageable);
+
+            //DTO로 변환해 내려주기
+            return ReviewListResponse.from(reviews);
+        });
     }
 
     //특정 유저가 작성한 리뷰 목록을 페이징 처리해 조회
     public ReviewListResponse getReviewsByUserId(final Long userId, final int page, final int size,
-                                                 final String sortBy, final boolean isAsc) {
+                                                 final ReviewSortType sortType) {
 
         //userId에 해당하는 유저가 존재하는지 확인, 없으면 예외 처리
         userService.getUserOrElseThrow(userId);
         
         //아래에서 만든 createPageable 호출 - 같은 클래스 내부라 private도 호출 가능
-        final Pageable pageable = createPageable(page, size, sortBy, isAsc);
+        final Pageable pageable = createPageable(page, size, sortType);
 
-        //DB에서 해당하는 유저의 리뷰들 들고오기
-        Page<Review> reviews = reviewRepository.findAllByUserId(userId, pageable);
+        //DB에서 해당하는 유저의 리뷰들 ReviewResponse 형태로 들고오기
+        Page<ReviewResponse> reviews = reviewRepository.findResponsesByUserId(userId, pageable);
 
         //조회된 리뷰 목록을 DTO로 변환
         //Review entity 그대로 반환시 DB구조에 대한 정보 노출 가능.
         //DTO를 사용해 필요 데이터만 전달!
-        //of()가reviews 데이터를 ReviewListResponse 객체로 변환하는 역할
-        //생성자를 감추고 정적메서도 of로 객체 생성
-        return ReviewListResponse.of(reviews);
+        //from()이 reviews 데이터를 ReviewListResponse 객체로 변환하는 역할
+        //생성자를 감추고 정적메서드 from으로 객체 생성
+        return ReviewListResponse.from(reviews);
+    }
+
+    //리뷰 내용 검색
+    //메모리 역색인에서 점수 순으로 현재 페이지의 리뷰 id만 찾고, 응답은 그 id들로 쿼리 한 번에 조회
+    public ReviewListResponse searchReviews(final String query, final UUID storeId,
+                                            final int page, final int size) {
+
+        final ReviewSearchIndex.SearchResult result = reviewSearchIndex.search(query, storeId, page, size);
+
+        //IN 조회는 순서를 보장하지 않으므로 검색 점수 순서대로 다시 정렬
+        final Map<UUID, ReviewResponse> responses = reviewRepository
+                .findResponsesByIds(result.reviewIds()).stream()
+                .collect(Collectors.toMap(ReviewResponse::reviewId, Function.identity()));
+        final List<ReviewResponse> ranked = result.reviewIds().stream()
+                .map(responses::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        final int totalPages = (int) ((result.totalElements() + size - 1) / size);
+        return new ReviewListResponse(ranked, totalPages, result.totalElements());
+    }
+
+    //가게 리뷰 전체 내보내기
+    //페이지 단위로 엔티티를 모아서 올리지 않고, 커서로 한 줄씩 읽어서 바로 writer에 넘긴다.
+    //읽은 row는 writer가 응답으로 내보낸 뒤 버려지므로 리뷰가 백만 개여도 메모리 사용량이 일정함
+    public void exportReviewsByStoreId(final UUID storeId, final Consumer<ReviewResponse> writer) {
+
+        storeService.getStoreOrElseThrow(storeId);
+
+        //스트림은 DB 커서를 잡고 있으므로 try-with-resources로 반드시 닫기
+        try (Stream<ReviewResponse> reviews = reviewRepository.streamResponsesByStoreId(storeId,
+                EXPORT_FETCH_SIZE)) {
+            reviews.forEach(writer);
+        }
+    }
+
+    //가게 별점 요약 조회 (평균, 리뷰 개수, 별점별 개수)
+    //리뷰 변경분을 반영해둔 요약 row를 PK로 조회하기 때문에 리뷰가 몇 개든 비용이 같음
+    //변경분은 평점 flush 주기(review.rating.flush-interval-ms)만큼 늦게 반영될 수 있음
+    public StoreRatingSummaryResponse getStoreRatingSummary(final UUID storeId) {
+
+        storeService.getStoreOrElseThrow(storeId);
+
+        //요약 row가 없는 가게 = 아직 반영된 리뷰가 없는 가게
+        final StarCounts starCounts = storeRatingSummaryRepository.findByStoreId(storeId)
+                .map(StoreRatingSummary::getStarCounts)
+                .orElseGet(StarCounts::empty);
+
+        return StoreRatingSummaryResponse.of(storeId, starCounts);
+    }
+
+    //가게 기간별 평점 추이 - 최근 24시간/7일/30일 평균 평점과 직전 같은 기간 대비 변화
+    //메모리에 없는 가게만 p_review 에서 최근 60일 리뷰를 읽어서 만듦
+    public StoreRatingTrendResponse getStoreRatingTrend(final UUID storeId) {
+
+        storeService.getStoreOrElseThrow(storeId);
+
+        return storeRatingTrendAggregator.trend(storeId);
+    }
+
+    //특정 가게의 리뷰 목록을 COUNT 없이 조회 (무한 스크롤용)
+    //withTotal이 true면 실시간 COUNT 대신 가게 별점 분포의 리뷰 개수를 함께 내려줌 (평점 flush 주기만큼 늦을 수 있음)
+    public ReviewSliceResponse getReviewSliceByStoreId(final UUID storeId, final int page,
+                                                       final int size, final ReviewSortType sortType,
+                                                       final boolean withTotal) {
+
+        storeService.getStoreOrElseThrow(storeId);
+
+        final Pageable pageable = createPageable(page, size, sortType);
+        final Slice<ReviewResponse> reviews = reviewRepository.findResponseSliceByStoreId(storeId, pageable);
+
+        final Long approximateTotal = withTotal
+                ? storeRatingSummaryRepository.findByStoreId(storeId)
+                        .map(summary -> summary.getStarCounts().total())
+                        .orElse(0L)
+                : null;
+        return ReviewSliceResponse.of(reviews, approximateTotal);
+    }
+
+    //특정 유저가 작성한 리뷰 목록을 COUNT 없이 조회 (무한 스크롤용)
+    //withTotal이 true면 리뷰 트랜잭션에서 함께 갱신되는 유저별 리뷰 개수를 내려줌
+    public ReviewSliceResponse getReviewSliceByUserId(final Long userId, final int page,
+                                                      final int size, final ReviewSortType sortType,
+                                                      final boolean withTotal) {
+
+        userService.getUserOrElseThrow(userId);
+
+        final Pageable pageable = createPageable(page, size, sortType);
+        final Slice<ReviewResponse> reviews = reviewRepository.findResponseSliceByUserId(userId, pageable);
+
+        final Long approximateTotal = withTotal
+                ? userReviewCountRepository.findCountByUserId(userId).orElse(0L)
+                : null;
+        return ReviewSliceResponse.of(reviews, approximateTotal);
+    }
+
+    //특정 가게의 리뷰 목록을 커서 방식으로 조회
+    //OFFSET + COUNT 대신 마지막 리뷰 위치(cursor) 이후만 읽기 때문에 깊은 페이지도 첫 페이지와 비용이 같음
+    public ReviewCursorResponse getReviewsByStoreIdWithCursor(final UUID storeId, final String cursor,
+                                                              final int size, final boolean isAsc) {
+
+        storeService.getStoreOrElseThrow(storeId);
+
+        //다음 페이지가 있는지 알기 위해 size + 1 개 조회
+        final List<Review> reviews = reviewRepository.findAllByStoreIdAfterCursor(storeId,
+                ReviewCursor.decode(cursor), size + 1, isAsc);
+
+        return ReviewCursorResponse.of(reviews, size);
+    }
+
+    //특정 유저가 작성한 리뷰 목록을 커서 방식으로 조회
+    public ReviewCursorResponse getReviewsByUserIdWithCursor(final Long userId, final String cursor,
+                                                             final int size, final boolean isAsc) {
+
+        userService.getUserOrElseThrow(userId);
+
+        final List<Review> reviews = reviewRepository.findAllByUserIdAfterCursor(userId,
+                ReviewCursor.decode(cursor), size + 1, isAsc);
+
+        return ReviewCursorResponse.of(reviews, size);
     }
 
     //Spring Data JPA의 페이징(Pageable) 기능을 생성하는 역할
     //Pageable 객체를 생성하는 역할
     //이 객체는 페이징 및 정렬 정보를 포함한 요청 객체
-    //page : 페이지 번호, size : 페이지 한 개당 몇개 데이터 들고올지, sortBy, 정렬 기준, isAsc true 오름차순
+    //page : 페이지 번호, size : 페이지 한 개당 몇개 데이터 들고올지, sortType : 정해진 정렬 방식 (인덱스 순서와 같음)
     //private는 같은 클래스 내부에서만 호출 가능
-    private Pageable createPageable(final int page, final int size,
-                                    final String sortBy, final boolean isAsc) {
-
-        //isAsc가 true면 ASC, false면 DESC
-        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
-        
-        //정렬 기준을 설정, sortBy를 기준으로 정렬, direction은 내림, 오름차순 결정
-        Sort sort = Sort.by(direction, sortBy);
+    private Pageable createPageable(final int page, final int size, final ReviewSortType sortType) {
 
         //PageRequest.of(page, size, sort)를 사용해 페이징 요청 객체(Pageable)를 생성
-        return PageRequest.of(page, size, sort);
-        //정렬방향 결정, 정렬 기준 필드 설정, 페이징 객체 생성
+        //정렬 기준은 클라이언트가 임의로 정할 수 없고 ReviewSortType 에 정의된 것만 사용
+        return PageRequest.of(page, size, sortType.getSort());
     }
 }
@@ -0,0 +1,212 @@
+package review.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import review.domain.repository.StoreRatingDeltaRepository;
+import review.domain.repository.vo.StarCounts;
+import review.domain.repository.vo.StoreRatingDelta;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+//가게 평점 집계기
+//리뷰 생성/수정/삭제 때마다 storeService.calculateRating을 바로 호출하면
+//인기 가게의 store row 하나에 트랜잭션이 줄을 서게 된다. (hot row lock)
+//그래서 리뷰 트랜잭션에서는 변경분만 저널에 INSERT 하고,
+//커밋이 끝나면 메모리에 변경이 있는 가게를 모아두었다가 주기적으로 가게별로 한 번에 반영한다.
+//반영할 값은 메모리가 아니라 저널에서 가져오므로(StoreRatingFlushWriter) 메모리에는 가게 id, 기록 시각만 둔다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreRatingAggregator {
+
+    //stripe 개수 (2의 제곱수여야 비트 연산으로 나눌 수 있음)
+    private static final int STRIPE_COUNT = 64;
+
+    private final StoreRatingDeltaRepository storeRatingDeltaRepository;
+    private final StoreRatingFlushWriter storeRatingFlushWriter;
+    private final MeterRegistry meterRegistry;
+
+    //이 시간보다 오래 저널에 남아있는 변경분은 주인 없는 것으로 보고 이 서버가 반영
+    @Value("${review.rating.sweep-interval-ms:60000}")
+    private long sweepIntervalMs;
+
+    //storeId 해시값으로 stripe를 골라 그 stripe만 잠근다.
+    //서로 다른 가게는 대부분 다른 stripe에 들어가므로 잠금 경합이 거의 없음
+    private final Stripe[] stripes = createStripes();
+
+    //flush 중인(stripe에서 꺼내서 DB 반영 중인) 변경분 중 가장 오래된 시각
+    //꺼낸 동안에도 지연 지표가 0으로 떨어지지 않게 하기 위함
+    private final AtomicLong inFlightOldestRecordedAt = new AtomicLong(Long.MAX_VALUE);
+
+    //가게 평점 반영 지연 지표 등록
+    //review.rating.lag : 아직 가게 평점에 반영되지 않은 변경분 중 가장 오래된 것의 경과 시간(초)
+    //review.rating.pending.stores : 반영 대기 중인 가게 수
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("review.rating.lag", this, StoreRatingAggregator::lagSeconds)
+                .description("가게 평점이 리뷰 변경을 따라잡지 못한 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("review.rating.pending.stores", this, StoreRatingAggregator::pendingStoreCount)
+                .register(meterRegistry);
+    }
+
+    //리뷰 트랜잭션 안에서 호출
+    //변경분을 저널에 INSERT 하고, 커밋 후에만 가게를 flush 대상으로 올린다.
+    //롤백되면 저널 row도 같이 사라지므로 반영할 것이 없음
+    //starDeltas : 별점별 개수 변화량 (StarCounts.created / updated / deleted)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(final UUID storeId, final StarCounts starDeltas) {
+
+        storeRatingDeltaRepository.save(new StoreRatingDelta(storeId, starDeltas));
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                mark(storeId);
+            }
+        });
+    }
+
+    //서버 시작 시 저널에 남아있는 변경분의 가게를 flush 대상으로 올림
+    //flush 직전에 서버가 죽어도 변경분이 유실되지 않는다.
+    //다른 서버가 아직 반영하지 않은 변경분의 가게도 함께 올라오지만,
+    //flush 는 저널에서 실제로 지운 row 만 반영하므로 같은 변경분이 두 번 반영되지 않음
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        final int recovered = markStoresRecordedBefore(LocalDateTime.now());
+        if (recovered > 0) {
+            log.info("미반영 가게 평점 변경분 복구 - 가게 {} 곳", recovered);
+        }
+    }
+
+    //변경분을 기록한 서버가 flush 전에 죽으면 그 row 는 다른 서버가 재시작할 때까지 남는다.
+    //주기적으로 오래 남아있는 변경분의 가게를 이 서버의 flush 대상으로 올려서 반영
+    @Scheduled(fixedDelayString = "${review.rating.sweep-interval-ms:60000}",
+            initialDelayString = "${review.rating.sweep-interval-ms:60000}")
+    public void sweep() {
+        final int swept = markStoresRecordedBefore(LocalDateTime.now().minus(Duration.ofMillis(sweepIntervalMs)));
+        if (swept > 0) {
+            log.info("오래 남아있던 가게 평점 변경분 반영 예약 - 가게 {} 곳", swept);
+        }
+    }
+
+    //주기적으로 변경이 있는 가게의 변경분을 가게 평점에 반영
+    //가게 하나당 UPDATE 한 번이므로 리뷰가 많이 몰려도 store row 잠금 횟수는 flush 주기당 1번
+    @Scheduled(fixedDelayString = "${review.rating.flush-interval-ms:1000}")
+    public void flush() {
+        for (Stripe stripe : stripes) {
+            final Map<UUID, Long> drained = stripe.drain();
+            inFlightOldestRecordedAt.set(drained.values().stream()
+                    .mapToLong(Long::longValue)
+                    .min()
+                    .orElse(Long.MAX_VALUE));
+
+            drained.forEach((storeId, firstRecordedAt) -> {
+                try {
+                    storeRatingFlushWriter.apply(storeId);
+                } catch (RuntimeException e) {
+                    //실패한 가게는 다시 넣어두고 다음 주기에 재시도 (저널 삭제도 롤백되어 그대로 남아있음)
+                    log.warn("가게 평점 반영 실패 - storeId : {}", storeId, e);
+                    stripe.requeue(storeId, firstRecordedAt);
+                }
+            });
+            inFlightOldestRecordedAt.set(Long.MAX_VALUE);
+        }
+    }
+
+    private double lagSeconds() {
+        long oldest = inFlightOldestRecordedAt.get();
+        for (Stripe stripe : stripes) {
+            oldest = Math.min(oldest, stripe.oldestRecordedAt());
+        }
+        if (oldest == Long.MAX_VALUE) {
+            return 0;
+        }
+        return (double) (System.nanoTime() - oldest) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private double pendingStoreCount() {
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            count += stripe.size();
+        }
+        return count;
+    }
+
+    private int markStoresRecordedBefore(final LocalDateTime before) {
+        final List<UUID> storeIds = storeRatingDeltaRepository.findStoreIdsRecordedBefore(before);
+        storeIds.forEach(this::mark);
+        return storeIds.size();
+    }
+
+    private void mark(final UUID storeId) {
+        stripeOf(storeId).add(storeId);
+    }
+
+    private Stripe stripeOf(final UUID storeId) {
+        return stripes[storeId.hashCode() & (STRIPE_COUNT - 1)];
+    }
+
+    private static Stripe[] createStripes() {
+        final Stripe[] created = new Stripe[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            created[i] = new Stripe();
+        }
+        return created;
+    }
+
+    //stripe 하나 = 잠금 하나 + 그 잠금이 보호하는 가게별 첫 기록 시각 map
+    //(System.nanoTime - 가게 평점 반영 지연 지표에 사용)
+    private static class Stripe {
+
+        private Map<UUID, Long> pending = new HashMap<>();
+
+        synchronized void add(final UUID storeId) {
+            pending.putIfAbsent(storeId, System.nanoTime());
+        }
+
+        synchronized void requeue(final UUID storeId, final long firstRecordedAt) {
+            pending.merge(storeId, firstRecordedAt, Math::min);
+        }
+
+        synchronized long oldestRecordedAt() {
+            long oldest = Long.MAX_VALUE;
+            for (long recordedAt : pending.values()) {
+                oldest = Math.min(oldest, recordedAt);
+            }
+            return oldest;
+        }
+
+        synchronized int size() {
+            return pending.size();
+        }
+
+        //map을 통째로 바꿔치기해서 잠금은 아주 짧게만 잡음
+        //실제 DB 반영은 잠금 밖에서 한다.
+        synchronized Map<UUID, Long> drain() {
+            final Map<UUID, Long> drained = pending;
+            pending = new HashMap<>();
+            return drained;
+        }
+    }
+}
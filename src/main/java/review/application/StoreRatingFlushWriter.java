@@ -0,0 +1,40 @@
+package review.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import review.domain.repository.StoreRatingDeltaRepository;
+import review.domain.repository.StoreRatingSummaryRepository;
+import review.domain.repository.vo.StarCounts;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+//저널에 쌓인 변경분을 실제 가게 평점에 반영하는 역할
+//StoreRatingAggregator 안에서 자기 자신을 호출하면 @Transactional 프록시가 적용되지 않기 때문에 별도 빈으로 분리
+@Component
+@RequiredArgsConstructor
+class StoreRatingFlushWriter {
+
+    private final StoreService storeService;
+    private final StoreRatingDeltaRepository storeRatingDeltaRepository;
+    private final StoreRatingSummaryRepository storeRatingSummaryRepository;
+
+    //저널 삭제(가져오기) + 가게 평점 반영 + 별점 분포 반영을 한 트랜잭션으로 묶음
+    //메모리에 모아둔 값이 아니라 이 트랜잭션이 저널에서 실제로 지운 row 만 반영하므로
+    //다른 서버가 같은 가게를 동시에 flush 하거나, 재시작 후 복구가 겹쳐도 중복 반영되지 않는다.
+    @Transactional
+    public void apply(final UUID storeId) {
+        final StarCounts starDeltas = storeRatingDeltaRepository.claimByStoreId(storeId);
+        if (starDeltas.isZero()) {
+            return;
+        }
+
+        //기존 평점 0, 새 평점 = 합계 변화량으로 넘기면 여러 리뷰의 변화량이 한 번에 반영됨
+        storeService.calculateRating(storeId, Math.toIntExact(starDeltas.total()),
+                BigDecimal.ZERO, starDeltas.ratingSum());
+
+        //별점 분포에는 변경분만 더함 (기존 가게의 분포는 V7 마이그레이션에서 채워둠)
+        storeRatingSummaryRepository.addStarCounts(storeId, starDeltas);
+    }
+}
@@ -0,0 +1,72 @@
+package review.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import review.application.event.ReviewChangedEvent;
+import review.domain.repository.UserReviewCountRepository;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+//유저별 리뷰 개수(p_user_review_count) 갱신
+//ReviewOutboxRecorder 처럼 @EventListener 라서 리뷰 트랜잭션 안에서 실행되고, 리뷰 변경과 같이 커밋/롤백 된다.
+//일괄 생성/삭제는 이벤트가 건별로 오므로 트랜잭션 동안 유저별로 모아두었다가 커밋 직전에 유저당 UPDATE 한 번만 실행
+@Component
+@RequiredArgsConstructor
+public class UserReviewCountRecorder {
+
+    private final UserReviewCountRepository userReviewCountRepository;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(final ReviewChangedEvent event) {
+        //수정은 개수 변화 없음
+        final long delta = switch (event.type()) {
+            case CREATED -> 1;
+            case DELETED -> -1;
+            case UPDATED -> 0;
+        };
+        if (delta == 0) {
+            return;
+        }
+        pendingCounts().deltas.merge(event.userId(), delta, Long::sum);
+    }
+
+    //현재 트랜잭션에 묶인 유저별 변화량, 처음 호출될 때 만들고 커밋 직전 반영을 등록
+    private PendingCounts pendingCounts() {
+        final PendingCounts bound = (PendingCounts) TransactionSynchronizationManager.getResource(this);
+        if (bound != null) {
+            return bound;
+        }
+
+        final PendingCounts pending = new PendingCounts();
+        TransactionSynchronizationManager.bindResource(this, pending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(final boolean readOnly) {
+                //userId 순서로 잠가서 여러 유저를 건드리는 트랜잭션끼리 deadlock 이 나지 않게 함
+                pending.deltas.forEach((userId, delta) -> {
+                    if (delta != 0) {
+                        userReviewCountRepository.addCount(userId, delta);
+                    }
+                });
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(UserReviewCountRecorder.this);
+            }
+        });
+        return pending;
+    }
+
+    private static final class PendingCounts {
+
+        private final Map<Long, Long> deltas = new TreeMap<>();
+    }
+}
@@ -0,0 +1,46 @@
+package review.application.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+//삭제 리뷰 보관 배치
+//삭제(soft delete)된 지 보관 기간(retention)이 지난 리뷰를 p_review -> p_review_archive 로 옮긴다.
+//p_review 와 인덱스에서 삭제된 row가 빠지므로 조회용 테이블이 계속 커지지 않음
+@Slf4j
+@Component
+public class ReviewArchiveJob {
+
+    private final ReviewArchiveWriter reviewArchiveWriter;
+    private final Duration retention;
+    private final int chunkSize;
+
+    public ReviewArchiveJob(ReviewArchiveWriter reviewArchiveWriter,
+                            @Value("${review.archive.retention:30d}") Duration retention,
+                            @Value("${review.archive.chunk-size:1000}") int chunkSize) {
+        this.reviewArchiveWriter = reviewArchiveWriter;
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+    }
+
+    //한 번에 다 옮기지 않고 chunkSize 개씩 트랜잭션을 나눠서 반복
+    //긴 트랜잭션 하나로 처리하면 그동안 많은 row에 lock이 잡히고 WAL도 한 번에 몰림
+    @Scheduled(cron = "${review.archive.cron:0 0 4 * * *}")
+    public void archive() {
+        final LocalDateTime deletedBefore = LocalDateTime.now().minus(retention);
+        long archived = 0;
+        int moved;
+        do {
+            moved = reviewArchiveWriter.archiveChunk(deletedBefore, chunkSize);
+            archived += moved;
+        } while (moved == chunkSize);
+
+        if (archived > 0) {
+            log.info("삭제 리뷰 보관 완료 - {} 건 (삭제 시각 {} 이전)", archived, deletedBefore);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package review.application.archive;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import review.domain.repository.ReviewRepository;
+
+import java.time.LocalDateTime;
+
+//삭제 리뷰 보관 - 묶음(chunk) 하나를 옮기는 트랜잭션
+//ReviewArchiveJob 안에서 직접 호출하면 @Transactional이 적용되지 않으므로 별도 빈으로 분리
+@Component
+@RequiredArgsConstructor
+class ReviewArchiveWriter {
+
+    private final ReviewRepository reviewRepository;
+
+    //묶음 하나 = 트랜잭션 하나 -> row lock은 묶음 크기만큼만, 아주 짧게 잡힘
+    @Transactional
+    public int archiveChunk(final LocalDateTime deletedBefore, final int chunkSize) {
+        return reviewRepository.archiveDeletedReviews(deletedBefore, chunkSize);
+    }
+}
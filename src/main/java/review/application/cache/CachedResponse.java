@@ -0,0 +1,11 @@
+package review.application.cache;
+
+//캐시를 거친 조회 결과와 ETag
+//eTag 는 응답이 캐시에 들어가 있을 때만 있음 (null 이면 조건부 요청에 304 를 줄 수 없으므로 ETag 헤더를 내리지 않음)
+public record CachedResponse<T>(T body, String eTag) {
+
+    //캐시에 넣지 않은 응답 (앞쪽 페이지가 아니거나, 변경 직후 replica-lag-window 안의 조회)
+    static <T> CachedResponse<T> uncached(final T body) {
+        return new CachedResponse<>(body, null);
+    }
+}
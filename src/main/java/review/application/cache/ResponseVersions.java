@@ -0,0 +1,19 @@
+package review.application.cache;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+//캐시에 올리는 응답마다 새 버전 번호를 붙여 ETag 를 만든다.
+//같은 응답을 다시 DB에서 읽어 올려도(ttl 만료, 밀려남) 번호가 바뀌므로 ETag 가 같다 = 지금 캐시에 있는 바로 그 응답
+//-> 304 는 캐시된 본문으로 200 을 준 것과 결과가 같고, 캐시보다 오래된 데이터를 가리키지 않음
+//서버 시작마다 임의의 접두어를 붙여서 다른 서버나 재시작 전에 발급한 ETag 와는 같아지지 않음 (그 경우 200)
+final class ResponseVersions {
+
+    private final String instanceId = Long.toUnsignedString(new SecureRandom().nextLong(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+
+    <T> CachedResponse<T> next(final Object key, final T body) {
+        return new CachedResponse<>(body,
+                "\"" + key + "-" + instanceId + "-" + sequence.incrementAndGet() + "\"");
+    }
+}
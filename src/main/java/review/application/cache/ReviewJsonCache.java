@@ -0,0 +1,79 @@
+package review.application.cache;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import review.application.dto.response.ReviewResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+
+//리뷰 한 건을 미리 직렬화한 JSON 캐시 (ReviewListResponseSerializer 에서 사용)
+//목록 응답마다 같은 리뷰를 Jackson 으로 다시 직렬화하지 않고, 만들어 둔 UTF-8 byte 를 그대로 출력에 복사한다.
+//메모리(byte) 기준으로 제한하고, 리뷰 수정/삭제 커밋 후 ReviewResponseCache.evict 에서 함께 제거
+@Component
+public class ReviewJsonCache {
+
+    //JSON 외에 key, ReviewResponse 등이 차지하는 대략적인 메모리
+    private static final int ENTRY_BASE_BYTES = 250;
+
+    private final boolean enabled;
+    private final Cache<UUID, Entry> cache;
+
+    public ReviewJsonCache(@Value("${review.cache.review-json.enabled:true}") boolean enabled,
+                           @Value("${review.cache.review-json.maximum-weight-bytes:33554432}") long maximumWeightBytes,
+                           @Value("${review.cache.review-json.ttl:10m}") Duration ttl,
+                           MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                //UTF-8 byte 와 원본 문자열을 함께 보관
+                .weigher((UUID key, Entry entry) -> ENTRY_BASE_BYTES + entry.json().charLength() * 3)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "reviewJson");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    //review 를 같은 직렬화 설정(config)으로 만들어 둔 JSON 이 있으면 반환, 없으면 renderer 로 만들어서 저장
+    //캐시된 페이지(StoreReviewPageCache)나 단건 캐시에서 온 리뷰는 같은 객체라 비교가 바로 끝나고,
+    //DB에서 새로 읽은 리뷰는 값을 비교 -> 무효화 전에 읽은 옛 값의 JSON 이 캐시에 들어가도 새 값에 쓰이지 않음
+    //config 가 다르면(다른 ObjectMapper, 날짜 형식 등) 다시 만듦
+    public SerializableString get(final ReviewResponse review, final SerializationConfig config,
+                                  final Renderer renderer) throws IOException {
+        final Entry cached = cache.getIfPresent(review.reviewId());
+        if (cached != null && cached.config() == config
+                && (cached.source() == review || cached.source().equals(review))) {
+            return cached.json();
+        }
+
+        final Entry created = new Entry(review, config, new SerializedString(renderer.render(review)));
+        cache.put(review.reviewId(), created);
+        return created.json();
+    }
+
+    //리뷰 수정/삭제 커밋 후 제거 (ReviewResponseCache.evict 에서 호출)
+    void invalidate(final UUID reviewId) {
+        cache.invalidate(reviewId);
+    }
+
+    @FunctionalInterface
+    public interface Renderer {
+        String render(ReviewResponse review) throws IOException;
+    }
+
+    private record Entry(ReviewResponse source, SerializationConfig config, SerializedString json) {
+    }
+}
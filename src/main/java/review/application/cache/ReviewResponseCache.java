@@ -0,0 +1,81 @@
+package review.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import review.application.dto.response.ReviewResponse;
+import review.application.event.ReviewChangedEvent;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+//리뷰 단건 조회(GET /reviews/{reviewId}) 캐시
+//가장 많이 호출되는 API라서 매번 DB를 조회하지 않도록 메모리에 ReviewResponse를 보관한다.
+//최대 개수(maximumSize)와 만료 시간(ttl) 두 가지 기준으로 오래된 항목을 제거
+@Component
+public class ReviewResponseCache {
+
+    //응답과 함께 캐시에 올린 시점의 ETag 를 보관 (조건부 GET)
+    private final Cache<UUID, CachedResponse<ReviewResponse>> cache;
+    private final ResponseVersions versions = new ResponseVersions();
+
+    //최근에 무효화된 리뷰 (replica-lag-window 동안만 보관)
+    //읽기가 복제본으로 가면 무효화 직후의 조회는 아직 변경 전 값을 읽을 수 있으므로,
+    //이 기간 동안의 조회 결과는 캐시에 넣지 않고 그대로 반환 -> 옛 값이 ttl 동안 남지 않음
+    private final Cache<UUID, Boolean> recentlyEvicted;
+
+    //목록 응답용 리뷰별 JSON - 이 캐시와 같은 시점에 무효화
+    private final ReviewJsonCache reviewJsonCache;
+
+    public ReviewResponseCache(@Value("${review.cache.review.maximum-size:10000}") long maximumSize,
+                               @Value("${review.cache.review.ttl:10m}") Duration ttl,
+                               @Value("${review.cache.replica-lag-window:0s}") Duration replicaLagWindow,
+                               ReviewJsonCache reviewJsonCache,
+                               MeterRegistry meterRegistry) {
+        this.reviewJsonCache = reviewJsonCache;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats() //hit, miss 횟수 기록
+                .build();
+        this.recentlyEvicted = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(replicaLagWindow)
+                .build();
+
+        //cache.gets{result=hit|miss}, cache.evictions 등의 지표로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "reviewResponse");
+    }
+
+    //캐시에 있으면 바로 반환, 없으면 loader로 DB에서 조회 후 저장 (read-through)
+    //같은 key에 대한 조회가 동시에 들어와도 loader는 한 번만 실행됨
+    public CachedResponse<ReviewResponse> get(final UUID reviewId,
+                                              final Function<UUID, ReviewResponse> loader) {
+        if (recentlyEvicted.getIfPresent(reviewId) != null) {
+            return CachedResponse.uncached(loader.apply(reviewId));
+        }
+        return cache.get(reviewId, id -> versions.next(id, loader.apply(id)));
+    }
+
+    //캐시에 있는 응답의 ETag, 없으면 null (DB 조회 없음)
+    //evict 로 지워진 뒤에는 null 이므로 변경 전 ETag 로는 304 가 나가지 않음
+    public String eTagIfPresent(final UUID reviewId) {
+        final CachedResponse<ReviewResponse> cached = cache.getIfPresent(reviewId);
+        return cached == null ? null : cached.eTag();
+    }
+
+    //리뷰 수정/삭제가 커밋된 뒤에만 캐시에서 제거 (미리 만든 JSON 도 함께)
+    //롤백된 변경은 캐시에 영향을 주지 않고, 커밋 전에는 기존 값을 그대로 보여준다.
+    //커밋 전에 DB를 읽고 있던 조회가 있어도 invalidate는 그 조회가 끝난 뒤 실행되므로 오래된 값이 남지 않음
+    @TransactionalEventListener
+    public void evict(final ReviewChangedEvent event) {
+        recentlyEvicted.put(event.reviewId(), Boolean.TRUE);
+        cache.invalidate(event.reviewId());
+        reviewJsonCache.invalidate(event.reviewId());
+    }
+}
@@ -0,0 +1,128 @@
+package review.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import review.application.dto.response.ReviewListResponse;
+import review.application.dto.response.ReviewResponse;
+import review.application.event.ReviewChangedEvent;
+import review.enums.ReviewSortType;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+//가게별 리뷰 목록 앞쪽 페이지 캐시 (GET /reviews/stores/{storeId})
+//대부분의 요청이 0페이지, 최신순이기 때문에 앞쪽 몇 페이지만 캐시해도 목록 쿼리 + COUNT 쿼리가 거의 사라진다.
+@Component
+public class StoreReviewPageCache {
+
+    //리뷰 한 건이 차지하는 대략적인 메모리 (UUID, 닉네임, 시간 등 고정 필드)
+    private static final int REVIEW_BASE_BYTES = 200;
+
+    private final int maxCachedPages;
+
+    //가게별 버전
+    //리뷰가 생성/수정/삭제 되면 커밋 후 새 버전을 줘서 이전 버전으로 저장된 페이지는 더 이상 조회되지 않게 함
+    //버전은 가게마다 0부터 세지 않고 전체 가게가 공유하는 번호(versionSequence)에서 받는다.
+    //그래서 오래 조회되지 않은 가게의 버전이 밀려나도 다음 조회 때 한 번도 쓰인 적 없는 번호를 받으므로
+    //옛날 페이지가 다시 보이지 않음 -> 버전도 개수 제한이 있는 캐시에 둘 수 있다.
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final Cache<UUID, Long> storeVersions;
+
+    //최근에 리뷰가 바뀐 가게 (replica-lag-window 동안만 보관)
+    //읽기가 복제본으로 가면 버전이 바뀐 직후의 조회는 아직 변경 전 목록을 읽을 수 있으므로,
+    //이 기간 동안의 조회 결과는 새 버전으로 캐시하지 않고 그대로 반환 -> 옛 목록이 ttl 동안 남지 않음
+    private final Cache<UUID, Boolean> recentlyChanged;
+
+    //개수가 아니라 메모리(byte) 기준으로 제한
+    //Caffeine은 자주 조회된 key만 캐시에 들어오게 하는 방식(W-TinyLFU)을 쓰기 때문에
+    //한 번씩만 조회되는 가게가 많아도 자주 조회되는 가게의 페이지가 밀려나지 않음
+    //페이지와 함께 캐시에 올린 시점의 ETag 를 보관 (조건부 GET)
+    private final Cache<PageKey, CachedResponse<ReviewListResponse>> cache;
+    private final ResponseVersions pageVersions = new ResponseVersions();
+
+    public StoreReviewPageCache(@Value("${review.cache.store-page.max-pages:3}") int maxCachedPages,
+                                @Value("${review.cache.store-page.maximum-weight-bytes:67108864}") long maximumWeightBytes,
+                                @Value("${review.cache.store-page.ttl:5m}") Duration ttl,
+                                @Value("${review.cache.store-page.max-stores:100000}") long maxStores,
+                                @Value("${review.cache.replica-lag-window:0s}") Duration replicaLagWindow,
+                                MeterRegistry meterRegistry) {
+        this.maxCachedPages = maxCachedPages;
+        this.storeVersions = Caffeine.newBuilder()
+                .maximumSize(maxStores)
+                .build();
+        this.recentlyChanged = Caffeine.newBuilder()
+                .maximumSize(maxStores)
+                .expireAfterWrite(replicaLagWindow)
+                .build();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                .weigher((PageKey key, CachedResponse<ReviewListResponse> value) -> weigh(value.body()))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "storeReviewPage");
+    }
+
+    //앞쪽 페이지면 캐시에서 조회, 그 외 페이지는 항상 DB 조회
+    //버전은 DB 조회 전에 읽어야 한다.
+    //조회 도중 리뷰가 변경되면 이 결과는 이미 지나간 버전으로 저장되므로 다시 조회되지 않음
+    public CachedResponse<ReviewListResponse> get(final UUID storeId, final int page, final int size,
+                                                  final ReviewSortType sortType,
+                                                  final Supplier<ReviewListResponse> loader) {
+        if (!isCacheable(storeId, page)) {
+            return CachedResponse.uncached(loader.get());
+        }
+
+        final long version = storeVersions.get(storeId, id -> versionSequence.incrementAndGet());
+        final PageKey key = new PageKey(storeId, version, page, size, sortType);
+        return cache.get(key, k -> pageVersions.next(storeId, loader.get()));
+    }
+
+    //현재 가게 버전으로 캐시에 있는 페이지의 ETag, 없으면 null (DB 조회 없음)
+    //bumpVersion 이후에는 새 버전의 페이지만 찾으므로 변경 전 ETag 로는 304 가 나가지 않음
+    public String eTagIfPresent(final UUID storeId, final int page, final int size,
+                                final ReviewSortType sortType) {
+        if (!isCacheable(storeId, page)) {
+            return null;
+        }
+        final Long version = storeVersions.getIfPresent(storeId);
+        if (version == null) {
+            return null;
+        }
+        final CachedResponse<ReviewListResponse> cached =
+                cache.getIfPresent(new PageKey(storeId, version, page, size, sortType));
+        return cached == null ? null : cached.eTag();
+    }
+
+    //리뷰 생성/수정/삭제 커밋 후 가게에 새 버전 주기
+    @TransactionalEventListener
+    public void bumpVersion(final ReviewChangedEvent event) {
+        recentlyChanged.put(event.storeId(), Boolean.TRUE);
+        storeVersions.put(event.storeId(), versionSequence.incrementAndGet());
+    }
+
+    private boolean isCacheable(final UUID storeId, final int page) {
+        return page < maxCachedPages && recentlyChanged.getIfPresent(storeId) == null;
+    }
+
+    private static int weigh(final ReviewListResponse value) {
+        int bytes = 0;
+        for (ReviewResponse review : value.reviewResponseList()) {
+            final String content = review.content();
+            bytes += REVIEW_BASE_BYTES + (content == null ? 0 : content.length() * 2);
+        }
+        return Math.max(bytes, 1);
+    }
+
+    private record PageKey(UUID storeId, long version, int page, int size,
+                           ReviewSortType sortType) {
+    }
+}
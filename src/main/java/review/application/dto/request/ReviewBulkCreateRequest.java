@@ -0,0 +1,24 @@
+package review.application.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+//리뷰 일괄 생성 요청
+//주문 이관, 마이그레이션 작업에서 리뷰 여러 건을 한 번에 생성할 때 사용
+public record ReviewBulkCreateRequest(
+        @NotEmpty(message = "생성할 리뷰가 없습니다.")
+        @Size(max = 5000, message = "한 번에 최대 5000건까지 생성할 수 있습니다.")
+        List<Item> items) {
+
+    //리뷰 한 건 = 주문 id + 기존 단건 생성 요청 내용
+    //건별 검증은 ReviewService 에서 - 요청 전체가 아니라 잘못된 건만 INVALID 로 실패 처리
+    public record Item(
+            @NotNull(message = "주문 id는 필수입니다.") UUID orderHistoryId,
+            @NotNull @Valid ReviewCreateRequest review) {
+    }
+}
@@ -0,0 +1,20 @@
+package review.application.dto.request;
+
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+//리뷰 일괄 삭제(모더레이션) 요청 - 아래 셋 중 하나만 지정
+//1. userId : 해당 사용자의 모든 리뷰 (스팸 계정)
+//2. storeId + from + to : 해당 가게에 기간 [from, to) 동안 작성된 리뷰 (리뷰 테러)
+//3. reviewIds : 지정한 리뷰들
+public record ReviewModerationRequest(
+        Long userId,
+        UUID storeId,
+        LocalDateTime from,
+        LocalDateTime to,
+        @Size(max = 100000, message = "한 번에 최대 100000건까지 지정할 수 있습니다.")
+        List<UUID> reviewIds) {
+}
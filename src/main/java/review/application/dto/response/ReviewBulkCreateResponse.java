@@ -0,0 +1,38 @@
+package review.application.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+//리뷰 일괄 생성 결과
+//일부가 실패해도 나머지는 생성되며, 요청 순서대로 건별 결과를 내려준다.
+public record ReviewBulkCreateResponse(int createdCount, int failedCount,
+                                       List<ItemResult> results) {
+
+    public static ReviewBulkCreateResponse of(List<ItemResult> results) {
+        final int createdCount = (int) results.stream()
+                .filter(result -> result.status() == Status.CREATED)
+                .count();
+        return new ReviewBulkCreateResponse(createdCount, results.size() - createdCount, results);
+    }
+
+    //건별 결과 - 성공 시 reviewId, 실패 시 message
+    public record ItemResult(UUID orderHistoryId, Status status, UUID reviewId, String message) {
+
+        public static ItemResult created(UUID orderHistoryId, UUID reviewId) {
+            return new ItemResult(orderHistoryId, Status.CREATED, reviewId, null);
+        }
+
+        public static ItemResult failed(UUID orderHistoryId, Status status, String message) {
+            return new ItemResult(orderHistoryId, status, null, message);
+        }
+    }
+
+    public enum Status {
+        CREATED,                //생성 성공
+        ALREADY_EXISTS,         //이미 리뷰가 있는 주문
+        DUPLICATED_IN_REQUEST,  //같은 요청 안에 같은 주문이 두 번 이상 있음
+        ORDER_NOT_FOUND,        //주문 내역 없음
+        FORBIDDEN,              //본인 주문이 아님
+        INVALID                 //리뷰 내용, 평점, 작성 시간 등 검증 실패
+    }
+}
@@ -0,0 +1,29 @@
+package review.application.dto.response;
+
+import review.domain.repository.vo.Review;
+import review.domain.repository.vo.ReviewCursor;
+
+import java.util.List;
+
+//커서 페이징 응답
+//totalPages, totalElements 대신 다음 페이지를 요청할 때 넘겨줄 nextCursor를 내려준다.
+//COUNT 쿼리가 필요 없음
+public record ReviewCursorResponse(List<ReviewResponse> reviewResponseList, String nextCursor,
+                                   boolean hasNext) {
+
+    //reviews는 size + 1 개까지 조회한 결과
+    //한 개 더 조회되었다면 다음 페이지가 있다는 뜻
+    public static ReviewCursorResponse of(List<Review> reviews, int size) {
+        final boolean hasNext = reviews.size() > size;
+        final List<Review> content = hasNext ? reviews.subList(0, size) : reviews;
+        final String nextCursor = hasNext
+                ? ReviewCursor.of(content.get(content.size() - 1)).encode()
+                : null;
+
+        return new ReviewCursorResponse(
+                content.stream().map(ReviewResponse::of).toList(),
+                nextCursor,
+                hasNext
+        );
+    }
+}
@@ -17,4 +17,13 @@ public record ReviewListResponse(List<ReviewResponse> reviewResponseList, int to
                 reviews.getTotalElements()
         );
     }
-}
\ No newline at end of file
+
+    //조회 쿼리에서 이미 ReviewResponse로 만들어진 경우 - 변환 없이 그대로 담기만 함
+    public static ReviewListResponse from(Page<ReviewResponse> reviews) {
+        return new ReviewListResponse(
+                reviews.getContent(),
+                reviews.getTotalPages(),
+                reviews.getTotalElements()
+        );
+    }
+}
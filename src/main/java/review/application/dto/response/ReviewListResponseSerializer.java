@@ -0,0 +1,60 @@
+package review.application.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import review.application.cache.ReviewJsonCache;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+//ReviewListResponse 직렬화 (JacksonConfig 에서 등록)
+//기본 직렬화와 같은 JSON 을 만들지만, 리뷰를 한 건씩 바로 출력 스트림(JsonGenerator)에 쓴다.
+//ReviewJsonCache 가 켜져 있으면 리뷰마다 미리 만들어 둔 JSON byte 를 그대로 복사해서
+//목록 응답마다 리뷰 객체를 Jackson 이 다시 탐색하지 않음
+public class ReviewListResponseSerializer extends StdSerializer<ReviewListResponse> {
+
+    private final ReviewJsonCache reviewJsonCache;
+
+    public ReviewListResponseSerializer(ReviewJsonCache reviewJsonCache) {
+        super(ReviewListResponse.class);
+        this.reviewJsonCache = reviewJsonCache;
+    }
+
+    @Override
+    public void serialize(ReviewListResponse value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        //들여쓰기 출력이면 미리 만든 JSON 과 모양이 달라지므로 기본 직렬화
+        final boolean precomputed = reviewJsonCache.isEnabled() && gen.getPrettyPrinter() == null
+                && gen.getCodec() != null;
+
+        gen.writeStartObject(value);
+        gen.writeArrayFieldStart("reviewResponseList");
+        for (ReviewResponse review : value.reviewResponseList()) {
+            if (precomputed) {
+                gen.writeRawValue(reviewJsonCache.get(review, provider.getConfig(),
+                        source -> render(source, gen, provider)));
+            } else {
+                provider.defaultSerializeValue(review, gen);
+            }
+        }
+        gen.writeEndArray();
+
+        gen.writeNumberField("totalPages", value.totalPages());
+        gen.writeNumberField("totalElements", value.totalElements());
+        gen.writeEndObject();
+    }
+
+    //응답과 같은 설정(SerializationConfig, 생성기 기능, 문자 escape)으로 리뷰 한 건을 JSON 으로
+    //-> 기본 직렬화로 쓴 것과 같은 결과
+    private static String render(final ReviewResponse review, final JsonGenerator gen,
+                                 final SerializerProvider provider) throws IOException {
+        final StringWriter json = new StringWriter(256);
+        try (JsonGenerator reviewGen = gen.getCodec().getFactory().createGenerator(json)) {
+            provider.getConfig().initialize(reviewGen);
+            reviewGen.setCharacterEscapes(gen.getCharacterEscapes());
+            provider.defaultSerializeValue(review, reviewGen);
+        }
+        return json.toString();
+    }
+}
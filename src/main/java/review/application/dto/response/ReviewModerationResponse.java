@@ -0,0 +1,5 @@
+package review.application.dto.response;
+
+//리뷰 일괄 삭제 결과 - 삭제된 리뷰 수, 평점이 다시 계산될 가게 수
+public record ReviewModerationResponse(long deletedCount, int affectedStoreCount) {
+}
@@ -0,0 +1,20 @@
+package review.application.dto.response;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+//COUNT 쿼리 없는 목록 응답 (무한 스크롤용)
+//totalPages, totalElements 대신 다음 페이지 존재 여부(hasNext)만 내려준다.
+//approximateTotal은 요청한 경우에만 채워지며, 실시간 COUNT가 아닌 대략적인 값
+public record ReviewSliceResponse(List<ReviewResponse> reviewResponseList, boolean hasNext,
+                                  Long approximateTotal) {
+
+    public static ReviewSliceResponse of(Slice<ReviewResponse> reviews, Long approximateTotal) {
+        return new ReviewSliceResponse(
+                reviews.getContent(),
+                reviews.hasNext(),
+                approximateTotal
+        );
+    }
+}
@@ -0,0 +1,31 @@
+package review.application.dto.response;
+
+import review.domain.repository.vo.StarCounts;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+//가게 별점 요약 - 평균 평점, 리뷰 개수, 별점(1~5)별 개수
+public record StoreRatingSummaryResponse(
+        UUID storeId,
+        BigDecimal averageRating, //소수점 첫째 자리까지
+        long reviewCount,
+        Map<Integer, Long> starCounts) {
+
+    public static StoreRatingSummaryResponse of(UUID storeId, StarCounts starCounts) {
+        final long reviewCount = starCounts.total();
+        final BigDecimal averageRating = reviewCount == 0
+                ? BigDecimal.ZERO
+                : starCounts.ratingSum().divide(BigDecimal.valueOf(reviewCount), 1, RoundingMode.HALF_UP);
+
+        //1점부터 5점까지 순서대로
+        final Map<Integer, Long> counts = new LinkedHashMap<>();
+        for (int star = StarCounts.MIN_STAR; star <= StarCounts.MAX_STAR; star++) {
+            counts.put(star, starCounts.get(star));
+        }
+        return new StoreRatingSummaryResponse(storeId, averageRating, reviewCount, counts);
+    }
+}
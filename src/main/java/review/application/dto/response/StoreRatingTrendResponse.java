@@ -0,0 +1,39 @@
+package review.application.dto.response;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.UUID;
+
+//가게 기간별 평점 추이 - 최근 24시간/7일/30일과 그 직전 같은 기간 비교
+public record StoreRatingTrendResponse(UUID storeId, List<Window> windows) {
+
+    //averageRating : 기간 평균 평점 (소수점 첫째 자리까지), 리뷰가 없으면 null
+    //change : 직전 기간 대비 평균 평점 변화, 어느 한쪽이라도 리뷰가 없으면 null
+    public record Window(
+            String period,
+            long reviewCount,
+            BigDecimal averageRating,
+            long previousReviewCount,
+            BigDecimal previousAverageRating,
+            BigDecimal change) {
+
+        public static Window of(String period, long count, long ratingSum, long previousCount,
+                                long previousRatingSum) {
+            final BigDecimal average = average(count, ratingSum);
+            final BigDecimal previousAverage = average(previousCount, previousRatingSum);
+            final BigDecimal change = average == null || previousAverage == null
+                    ? null
+                    : average.subtract(previousAverage);
+            return new Window(period, Math.max(count, 0), average, Math.max(previousCount, 0),
+                    previousAverage, change);
+        }
+
+        private static BigDecimal average(final long count, final long ratingSum) {
+            if (count <= 0) {
+                return null;
+            }
+            return BigDecimal.valueOf(ratingSum).divide(BigDecimal.valueOf(count), 1, RoundingMode.HALF_UP);
+        }
+    }
+}
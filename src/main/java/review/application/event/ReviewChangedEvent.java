@@ -0,0 +1,21 @@
+package review.application.event;
+
+import review.enums.ReviewChangeType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+//리뷰가 생성/수정/삭제 되었을 때 발행하는 이벤트
+//ReviewService는 이벤트만 발행하고, 캐시 무효화 같은 부가 작업은 각 리스너가 처리한다.
+//리스너는 @TransactionalEventListener로 받기 때문에 커밋이 끝난 뒤에만 실행됨 (롤백 시 실행 안됨)
+public record ReviewChangedEvent(
+        ReviewChangeType type,
+        UUID reviewId,
+        UUID storeId,
+        Long userId,
+        String content, //변경 후 리뷰 내용 (검색 색인용)
+        Integer rating, //변경 후 평점 (삭제면 삭제된 리뷰의 평점)
+        LocalDateTime reviewTime, //변경 후 리뷰 작성 시간 (기간별 평점 추이용)
+        Integer previousRating, //수정 전 평점 (수정일 때만)
+        LocalDateTime previousReviewTime) { //수정 전 리뷰 작성 시간 (수정일 때만)
+}
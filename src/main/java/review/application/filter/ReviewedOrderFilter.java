@@ -0,0 +1,90 @@
+package review.application.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import review.domain.repository.ReviewRepository;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+//이미 리뷰가 작성된 주문 id 필터
+//리뷰 생성 시 중복 확인(existsByOrderHistoryId)은 대부분 false 이므로
+//필터가 "확실히 없다" 고 하면 DB 조회를 건너뛴다.
+//필터가 "있을 수도 있다" 고 하면 기존처럼 DB 조회, 최종 중복 방지는 p_review 유니크 제약조건이 담당
+@Slf4j
+@Component
+public class ReviewedOrderFilter {
+
+    //서버 시작 시 불러오는 row 수
+    private static final int WARM_UP_FETCH_SIZE = 5000;
+
+    private final UuidBloomFilter bloomFilter;
+    private final ReviewRepository reviewRepository;
+
+    //필터를 다 채우기 전에는 "없다" 가 틀릴 수 있으므로 항상 DB 조회
+    private volatile boolean ready;
+
+    private final Counter maybeCounter;
+    private final Counter falsePositiveCounter;
+
+    public ReviewedOrderFilter(@Value("${review.order-filter.expected-insertions:10000000}") long expectedInsertions,
+                               @Value("${review.order-filter.fpp:0.01}") double fpp,
+                               ReviewRepository reviewRepository,
+                               MeterRegistry meterRegistry) {
+        this.bloomFilter = new UuidBloomFilter(expectedInsertions, fpp);
+        this.reviewRepository = reviewRepository;
+
+        //필터가 "있을 수도 있다" 고 한 횟수, 그 중 실제로는 없었던 횟수
+        //false-positive / maybe 가 실제 false positive 비율
+        this.maybeCounter = Counter.builder("review.order-filter.maybe").register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("review.order-filter.false-positive").register(meterRegistry);
+        Gauge.builder("review.order-filter.expected-fpp", bloomFilter, UuidBloomFilter::expectedFpp)
+                .register(meterRegistry);
+        Gauge.builder("review.order-filter.memory", bloomFilter, UuidBloomFilter::memoryBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("review.order-filter.insertions", bloomFilter, UuidBloomFilter::insertions)
+                .register(meterRegistry);
+    }
+
+    //false 면 이 주문에는 리뷰가 확실히 없음
+    public boolean mightContain(final UUID orderHistoryId) {
+        return !ready || bloomFilter.mightContain(orderHistoryId);
+    }
+
+    //리뷰 저장 시 호출 - 커밋 전에 넣어도 되는 이유 : 롤백되면 false positive 가 하나 늘 뿐 틀린 "없다" 는 생기지 않음
+    public void put(final UUID orderHistoryId) {
+        bloomFilter.put(orderHistoryId);
+    }
+
+    //"있을 수도 있다" 후 DB 조회 결과를 기록해서 실제 false positive 비율 측정
+    public void recordLookup(final boolean exists) {
+        if (!ready) {
+            return;
+        }
+        maybeCounter.increment();
+        if (!exists) {
+            falsePositiveCounter.increment();
+        }
+    }
+
+    //서버 시작 시 p_review의 주문 id 전체로 필터 채우기
+    //다른 서버 인스턴스에서 생성된 리뷰는 이 필터에 없으므로 유니크 제약조건이 최종 방어선이 된다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        try (Stream<UUID> orderHistoryIds = reviewRepository.streamOrderHistoryIds(WARM_UP_FETCH_SIZE)) {
+            orderHistoryIds.forEach(bloomFilter::put);
+        }
+        ready = true;
+        log.info("리뷰 작성 주문 필터 준비 완료 - {} 건, {} bytes", bloomFilter.insertions(),
+                bloomFilter.memoryBytes());
+    }
+}
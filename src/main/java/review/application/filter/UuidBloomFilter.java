@@ -0,0 +1,88 @@
+package review.application.filter;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+//UUID 전용 블룸 필터
+//"없다" 는 항상 정확하고, "있을 수도 있다" 는 일정 확률(false positive)로 틀릴 수 있다.
+//비트 배열을 AtomicLongArray로 두어서 잠금 없이 여러 스레드가 동시에 추가/조회 가능
+class UuidBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final AtomicLong insertions = new AtomicLong();
+
+    //expectedInsertions 개를 넣었을 때 false positive 확률이 fpp 가 되도록 크기 계산
+    UuidBloomFilter(final long expectedInsertions, final double fpp) {
+        final long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        this.bitSize = Math.max(64, (optimalBits + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray(Math.toIntExact(bitSize / 64));
+    }
+
+    void put(final UUID value) {
+        final long hash1 = mix(value.getMostSignificantBits());
+        final long hash2 = mix(value.getLeastSignificantBits());
+        for (int i = 0; i < hashCount; i++) {
+            setBit(index(hash1, hash2, i));
+        }
+        insertions.incrementAndGet();
+    }
+
+    boolean mightContain(final UUID value) {
+        final long hash1 = mix(value.getMostSignificantBits());
+        final long hash2 = mix(value.getLeastSignificantBits());
+        for (int i = 0; i < hashCount; i++) {
+            if (!getBit(index(hash1, hash2, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //지금까지 넣은 개수 기준 예상 false positive 확률 : (1 - e^(-kn/m))^k
+    double expectedFpp() {
+        return Math.pow(1 - Math.exp(-(double) hashCount * insertions.get() / bitSize), hashCount);
+    }
+
+    long memoryBytes() {
+        return bitSize / 8;
+    }
+
+    long insertions() {
+        return insertions.get();
+    }
+
+    //해시 두 개를 조합해서 k 개의 위치를 만든다. (Kirsch-Mitzenmacher)
+    private long index(final long hash1, final long hash2, final int i) {
+        return Math.floorMod(hash1 + i * hash2, bitSize);
+    }
+
+    private void setBit(final long index) {
+        final int word = (int) (index >>> 6);
+        final long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    private boolean getBit(final long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    //UUID v4 비트도 어느 정도 무작위지만 버전 비트 등이 고정이므로 한 번 더 섞음 (murmur3 fmix64)
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
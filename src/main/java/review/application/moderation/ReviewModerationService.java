@@ -0,0 +1,90 @@
+package review.application.moderation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import review.application.dto.request.ReviewModerationRequest;
+import review.application.dto.response.ReviewModerationResponse;
+import review.domain.repository.vo.ModeratedReview;
+import review.exception.InvalidModerationRequestException;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+//리뷰 일괄 삭제 (모더레이션)
+//리뷰마다 DELETE /reviews/{reviewId} 를 부르면 리뷰 조회 + dirty checking + 평점 반영이 건별로 일어난다.
+//여기서는 chunkSize 개씩 UPDATE 한 번으로 삭제하고 트랜잭션을 나눠서,
+//수십만 건이어도 lock 은 묶음 하나 동안만 잡히고 가게 평점은 묶음마다 가게별로 한 번만 기록됨
+@Slf4j
+@Service
+public class ReviewModerationService {
+
+    private final ReviewModerationWriter reviewModerationWriter;
+    private final int chunkSize;
+
+    public ReviewModerationService(ReviewModerationWriter reviewModerationWriter,
+                                   @Value("${review.moderation.chunk-size:1000}") int chunkSize) {
+        this.reviewModerationWriter = reviewModerationWriter;
+        this.chunkSize = chunkSize;
+    }
+
+    public ReviewModerationResponse softDelete(final ReviewModerationRequest request) {
+        final boolean byUser = request.userId() != null;
+        final boolean byStore = request.storeId() != null;
+        final boolean byIds = request.reviewIds() != null && !request.reviewIds().isEmpty();
+        if ((byUser ? 1 : 0) + (byStore ? 1 : 0) + (byIds ? 1 : 0) != 1) {
+            throw new InvalidModerationRequestException("userId, storeId, reviewIds 중 하나만 지정해야 합니다.");
+        }
+
+        final Result result = new Result();
+        if (byUser) {
+            repeatUntilDone(result, () -> reviewModerationWriter.deleteByUserId(request.userId(), chunkSize));
+        } else if (byStore) {
+            validateRange(request.from(), request.to());
+            repeatUntilDone(result, () -> reviewModerationWriter.deleteByStoreId(
+                    request.storeId(), request.from(), request.to(), chunkSize));
+        } else {
+            final List<UUID> reviewIds = request.reviewIds().stream().distinct().toList();
+            for (int from = 0; from < reviewIds.size(); from += chunkSize) {
+                result.add(reviewModerationWriter.deleteByIds(
+                        reviewIds.subList(from, Math.min(from + chunkSize, reviewIds.size()))));
+            }
+        }
+
+        log.info("리뷰 일괄 삭제 완료 - {} 건, 가게 {} 곳 (userId : {}, storeId : {}, 지정 리뷰 {} 건)",
+                result.deletedCount, result.storeIds.size(), request.userId(), request.storeId(),
+                byIds ? request.reviewIds().size() : 0);
+        return new ReviewModerationResponse(result.deletedCount, result.storeIds.size());
+    }
+
+    //삭제된 리뷰는 조건(is_deleted = false)에서 빠지므로 같은 쿼리를 묶음이 다 차지 않을 때까지 반복
+    private void repeatUntilDone(final Result result, final Supplier<List<ModeratedReview>> chunk) {
+        int deleted;
+        do {
+            deleted = result.add(chunk.get());
+        } while (deleted == chunkSize);
+    }
+
+    private void validateRange(final LocalDateTime from, final LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new InvalidModerationRequestException(String.format(
+                    "가게 리뷰를 삭제하려면 from < to 기간이 필요합니다. { from : %s, to : %s }", from, to));
+        }
+    }
+
+    private static final class Result {
+
+        private long deletedCount;
+        private final Set<UUID> storeIds = new HashSet<>();
+
+        private int add(final List<ModeratedReview> deleted) {
+            deletedCount += deleted.size();
+            deleted.forEach(review -> storeIds.add(review.getStoreId()));
+            return deleted.size();
+        }
+    }
+}
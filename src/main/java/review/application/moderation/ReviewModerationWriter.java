@@ -0,0 +1,61 @@
+package review.application.moderation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import review.application.StoreRatingAggregator;
+import review.application.event.ReviewChangedEvent;
+import review.domain.repository.ReviewRepository;
+import review.domain.repository.vo.ModeratedReview;
+import review.domain.repository.vo.StarCounts;
+import review.enums.ReviewChangeType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+//리뷰 일괄 삭제 - 묶음(chunk) 하나를 삭제하는 트랜잭션
+//ReviewModerationService 안에서 직접 호출하면 @Transactional이 적용되지 않으므로 별도 빈으로 분리
+@Component
+@RequiredArgsConstructor
+class ReviewModerationWriter {
+
+    private final ReviewRepository reviewRepository;
+    private final StoreRatingAggregator storeRatingAggregator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    //묶음 하나 = UPDATE 한 번 = 트랜잭션 하나 -> row lock은 묶음 크기만큼만, 아주 짧게 잡힘
+    @Transactional
+    public List<ModeratedReview> deleteByUserId(final Long userId, final int chunkSize) {
+        return afterDelete(reviewRepository.softDeleteByUserId(userId, chunkSize));
+    }
+
+    @Transactional
+    public List<ModeratedReview> deleteByStoreId(final UUID storeId, final LocalDateTime from,
+                                                 final LocalDateTime to, final int chunkSize) {
+        return afterDelete(reviewRepository.softDeleteByStoreIdAndCreatedAt(storeId, from, to, chunkSize));
+    }
+
+    @Transactional
+    public List<ModeratedReview> deleteByIds(final Collection<UUID> reviewIds) {
+        return afterDelete(reviewRepository.softDeleteByIds(reviewIds));
+    }
+
+    //가게 평점 변경분은 리뷰마다가 아니라 가게마다 한 번 기록 (별점별 개수를 합쳐서)
+    //리뷰 변경 이벤트는 건별로 발행 -> 캐시, 검색 색인, 아웃박스가 단건 삭제와 똑같이 처리
+    private List<ModeratedReview> afterDelete(final List<ModeratedReview> deleted) {
+        final Map<UUID, StarCounts> starDeltas = new HashMap<>();
+        for (ModeratedReview review : deleted) {
+            starDeltas.merge(review.getStoreId(), StarCounts.deleted(review.getRating()), StarCounts::plus);
+            eventPublisher.publishEvent(new ReviewChangedEvent(ReviewChangeType.DELETED,
+                    review.getReviewId(), review.getStoreId(), review.getUserId(), null,
+                    review.getRating(), review.getReviewTime(), null, null));
+        }
+        starDeltas.forEach(storeRatingAggregator::record);
+        return deleted;
+    }
+}
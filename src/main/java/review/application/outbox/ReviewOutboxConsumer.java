@@ -0,0 +1,22 @@
+package review.application.outbox;
+
+import review.application.event.ReviewChangedEvent;
+
+import java.util.List;
+
+//아웃박스 이벤트 소비자
+//구현체를 빈으로 등록하면 ReviewOutboxDispatcher 가 자동으로 전달한다.
+//- events 는 같은 가게의 이벤트가 commitSeq 순으로 들어온다.
+//  같은 리뷰를 바꾼 트랜잭션끼리는 커밋 순서와 같고, 서로 다른 리뷰를 동시에 바꾼 트랜잭션끼리는 순서가 정해지지 않음
+//- 구현체가 하나도 없으면 ReviewOutboxRecorder 가 아웃박스에 기록하지 않음
+//- 최소 한 번 전달(at-least-once) : 실패하면 같은 이벤트가 다시 들어오고,
+//  다른 소비자가 실패해도 다시 들어오므로 중복 처리에 안전하게 구현해야 함
+//- 디스패처 트랜잭션 안에서 호출되므로 DB 에 쓰는 소비자는 REQUIRES_NEW 로 자기 트랜잭션을 열어야 한다.
+//  (예외가 나도 디스패처 트랜잭션은 커밋되어 재시도 정보가 저장되기 때문)
+public interface ReviewOutboxConsumer {
+
+    //지표, 로그에 쓰는 이름
+    String name();
+
+    void consume(List<ReviewChangedEvent> events);
+}
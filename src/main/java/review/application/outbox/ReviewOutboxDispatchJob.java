@@ -0,0 +1,75 @@
+package review.application.outbox;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import review.domain.repository.ReviewOutboxRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+//아웃박스 디스패치 배치
+//주기마다 batchSize 개씩 꺼내서 처리하고, 꽉 차게 꺼냈으면 밀린 것으로 보고 바로 다음 묶음을 처리한다.
+//소비자가 느려도 리뷰 쓰기 요청은 기다리지 않고, 아웃박스에 쌓인 만큼 지연(review.outbox.lag)만 늘어남
+//소비자(ReviewOutboxConsumer)가 없으면 기록되는 이벤트도 없으므로 DB 를 조회하지 않고 바로 끝냄
+@Component
+public class ReviewOutboxDispatchJob {
+
+    //한 주기에 연속으로 처리하는 최대 묶음 수 (스케줄러 스레드를 너무 오래 잡지 않도록)
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final ReviewOutboxDispatcher reviewOutboxDispatcher;
+    private final ReviewOutboxRepository reviewOutboxRepository;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+
+    //가장 오래된 미처리 이벤트의 경과 시간 (초)
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public ReviewOutboxDispatchJob(ReviewOutboxDispatcher reviewOutboxDispatcher,
+                                   ReviewOutboxRepository reviewOutboxRepository,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${review.outbox.batch-size:500}") int batchSize) {
+        this.reviewOutboxDispatcher = reviewOutboxDispatcher;
+        this.reviewOutboxRepository = reviewOutboxRepository;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+    }
+
+    //review.outbox.lag : 아직 전달되지 않은 이벤트 중 가장 오래된 것의 경과 시간(초)
+    @PostConstruct
+    void registerMetrics() {
+        if (!reviewOutboxDispatcher.hasConsumers()) {
+            return;
+        }
+        Gauge.builder("review.outbox.lag", lagSeconds, AtomicLong::get)
+                .description("아웃박스 이벤트가 소비자에게 전달되지 못한 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${review.outbox.dispatch-interval-ms:500}")
+    public void dispatch() {
+        if (!reviewOutboxDispatcher.hasConsumers()) {
+            return;
+        }
+
+        int batches = 0;
+        int fetched;
+        do {
+            fetched = reviewOutboxDispatcher.dispatchBatch(batchSize);
+            batches++;
+        } while (fetched == batchSize && batches < MAX_BATCHES_PER_RUN);
+
+        updateLag();
+    }
+
+    private void updateLag() {
+        final LocalDateTime oldest = reviewOutboxRepository.findOldestCreatedAt();
+        lagSeconds.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()));
+    }
+}
@@ -0,0 +1,147 @@
+package review.application.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import review.application.event.ReviewChangedEvent;
+import review.domain.repository.ReviewOutboxRepository;
+import review.domain.repository.vo.ReviewOutboxEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+//아웃박스 이벤트 한 묶음 처리 (한 트랜잭션)
+//1. advisory lock 으로 디스패처를 하나만 실행 (다른 서버는 바로 포기)
+//2. 처리 가능한 이벤트를 commitSeq 순으로 batchSize 개 조회 후 가게별로 묶음
+//3. 가게별로 모든 소비자에게 전달 - 성공한 가게의 이벤트는 삭제, 실패한 가게는 재시도 예약
+//   한 가게가 실패해도 다른 가게는 계속 진행되고, 실패한 가게의 뒤 이벤트는 재시도 전까지 대기
+//   읽을 수 없는 이벤트(payload 역직렬화 실패)는 재시도해도 계속 실패하므로 dead letter 로 옮기고 나머지를 전달
+@Slf4j
+@Component
+public class ReviewOutboxDispatcher {
+
+    //lock 을 얻지 못함 (다른 서버에서 처리 중)
+    public static final int LOCKED = -1;
+
+    private final ReviewOutboxRepository reviewOutboxRepository;
+    private final List<ReviewOutboxConsumer> consumers;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+
+    public ReviewOutboxDispatcher(ReviewOutboxRepository reviewOutboxRepository,
+                                  List<ReviewOutboxConsumer> consumers,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${review.outbox.retry-backoff:1s}") Duration retryBackoff,
+                                  @Value("${review.outbox.max-retry-backoff:5m}") Duration maxRetryBackoff) {
+        this.reviewOutboxRepository = reviewOutboxRepository;
+        this.consumers = consumers;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+    }
+
+    //소비자가 없으면 ReviewOutboxRecorder 도 기록하지 않으므로 꺼낼 이벤트가 없음
+    public boolean hasConsumers() {
+        return !consumers.isEmpty();
+    }
+
+    //조회한 이벤트 수 반환 (lock 을 얻지 못하면 LOCKED)
+    @Transactional
+    public int dispatchBatch(final int batchSize) {
+        if (!reviewOutboxRepository.tryLockDispatcher()) {
+            return LOCKED;
+        }
+
+        final List<ReviewOutboxEvent> batch = reviewOutboxRepository.findDispatchable(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        //commitSeq 순서를 유지한 채 가게별로 묶음
+        final Map<UUID, List<ReviewOutboxEvent>> byStore = new LinkedHashMap<>();
+        for (ReviewOutboxEvent event : batch) {
+            byStore.computeIfAbsent(event.getStoreId(), id -> new ArrayList<>()).add(event);
+        }
+
+        final List<Long> done = new ArrayList<>(batch.size());
+        for (Map.Entry<UUID, List<ReviewOutboxEvent>> entry : byStore.entrySet()) {
+            final List<ReviewOutboxEvent> storeEvents = new ArrayList<>(entry.getValue().size());
+            final List<ReviewChangedEvent> events = new ArrayList<>(entry.getValue().size());
+            for (ReviewOutboxEvent outboxEvent : entry.getValue()) {
+                final ReviewChangedEvent event = toEvent(outboxEvent);
+                if (event != null) {
+                    storeEvents.add(outboxEvent);
+                    events.add(event);
+                }
+            }
+            if (events.isEmpty()) {
+                continue;
+            }
+
+            if (deliver(entry.getKey(), events)) {
+                storeEvents.forEach(event -> done.add(event.getId()));
+            } else {
+                scheduleRetry(storeEvents);
+            }
+        }
+
+        if (!done.isEmpty()) {
+            reviewOutboxRepository.deleteAllByIdIn(done);
+            meterRegistry.counter("review.outbox.dispatched").increment(done.size());
+        }
+        return batch.size();
+    }
+
+    //한 가게의 이벤트를 모든 소비자에게 전달
+    //앞 소비자가 성공하고 뒤 소비자가 실패하면 다음에 앞 소비자도 다시 받음 (at-least-once)
+    private boolean deliver(final UUID storeId, final List<ReviewChangedEvent> events) {
+        for (ReviewOutboxConsumer consumer : consumers) {
+            try {
+                consumer.consume(events);
+            } catch (RuntimeException e) {
+                meterRegistry.counter("review.outbox.failures", "consumer", consumer.name()).increment();
+                log.warn("리뷰 아웃박스 전달 실패 - consumer: {}, storeId: {}, 이벤트 {} 건",
+                        consumer.name(), storeId, events.size(), e);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //실패 횟수에 따라 대기 시간을 2배씩 늘림 (최대 maxRetryBackoff)
+    private void scheduleRetry(final List<ReviewOutboxEvent> storeEvents) {
+        final int attempts = storeEvents.stream().mapToInt(ReviewOutboxEvent::getAttempts).max().orElse(0);
+        final Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts, 20));
+        final Duration delay = backoff.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff;
+
+        reviewOutboxRepository.markRetry(
+                storeEvents.stream().map(ReviewOutboxEvent::getId).toList(),
+                LocalDateTime.now().plus(delay));
+    }
+
+    //역직렬화에 실패하면 dead letter 로 옮기고 null 반환
+    private ReviewChangedEvent toEvent(final ReviewOutboxEvent event) {
+        try {
+            return objectMapper.readValue(event.getPayload(), ReviewChangedEvent.class);
+        } catch (JsonProcessingException e) {
+            meterRegistry.counter("review.outbox.dead_lettered").increment();
+            log.error("리뷰 아웃박스 이벤트 역직렬화 실패, dead letter 로 이동 - id: {}, storeId: {}",
+                    event.getId(), event.getStoreId(), e);
+            reviewOutboxRepository.moveToDeadLetter(event.getId(), e.getOriginalMessage());
+            return null;
+        }
+    }
+}
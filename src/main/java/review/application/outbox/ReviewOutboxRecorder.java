@@ -0,0 +1,95 @@
+package review.application.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import review.application.event.ReviewChangedEvent;
+import review.domain.repository.ReviewOutboxRepository;
+import review.domain.repository.vo.ReviewOutboxEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//리뷰 변경 이벤트를 아웃박스에 기록
+//@TransactionalEventListener 가 아닌 @EventListener 라서 ReviewService 트랜잭션 안에서 바로 실행된다.
+//리뷰 변경과 아웃박스 INSERT 가 같이 커밋/롤백 된다.
+//
+//이벤트는 트랜잭션 동안 모아두었다가 커밋 직전에 INSERT, 처리 순서(commit_seq)는 INSERT 때 DB 가 채움
+//별도 순번 테이블을 잠그지 않으므로 같은 가게의 쓰기끼리 줄을 서지 않는다.
+//소비자(ReviewOutboxConsumer)가 하나도 없으면 전달할 곳이 없으므로 기록하지 않는다.
+@Component
+public class ReviewOutboxRecorder {
+
+    private final ReviewOutboxRepository reviewOutboxRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    public ReviewOutboxRecorder(ReviewOutboxRepository reviewOutboxRepository,
+                                ObjectMapper objectMapper,
+                                List<ReviewOutboxConsumer> consumers) {
+        this.reviewOutboxRepository = reviewOutboxRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = !consumers.isEmpty();
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(final ReviewChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        pendingEvents().events.add(event);
+    }
+
+    //현재 트랜잭션에 묶인 이벤트, 처음 호출될 때 만들고 커밋 직전 INSERT 를 등록
+    private PendingEvents pendingEvents() {
+        final PendingEvents bound = (PendingEvents) TransactionSynchronizationManager.getResource(this);
+        if (bound != null) {
+            return bound;
+        }
+
+        final PendingEvents pending = new PendingEvents();
+        TransactionSynchronizationManager.bindResource(this, pending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(final boolean readOnly) {
+                save(pending.events);
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ReviewOutboxRecorder.this);
+            }
+        });
+        return pending;
+    }
+
+    //flush 는 INSERT 보다 UPDATE 를 나중에 실행하므로, 먼저 리뷰 변경을 반영해 row 잠금을 잡은 뒤 아웃박스를 저장
+    //-> 같은 리뷰를 바꾸는 다른 트랜잭션은 이 트랜잭션이 커밋된 후에 commit_seq 를 받음
+    //INSERT 는 커밋 시점 flush 때 batch 로 나간다. (시퀀스 id 라 batch 가능)
+    private void save(final List<ReviewChangedEvent> events) {
+        reviewOutboxRepository.flush();
+        for (ReviewChangedEvent event : events) {
+            reviewOutboxRepository.save(new ReviewOutboxEvent(
+                    event.type(), event.storeId(), event.reviewId(), toJson(event)));
+        }
+    }
+
+    private String toJson(final ReviewChangedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("리뷰 이벤트 직렬화 실패 : " + event.reviewId(), e);
+        }
+    }
+
+    private static final class PendingEvents {
+
+        private final List<ReviewChangedEvent> events = new ArrayList<>();
+    }
+}
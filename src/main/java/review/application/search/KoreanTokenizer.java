@@ -0,0 +1,66 @@
+package review.application.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+//리뷰 검색용 토크나이저
+//한국어는 조사, 어미가 붙어서 띄어쓰기 단위로 자르면 "맛있어요" 와 "맛있었어요" 가 다른 단어가 된다.
+//형태소 분석기 없이도 부분 일치가 되도록 한글은 두 글자씩 겹쳐 자른다. (bigram)
+//  "배달이빨라요" -> 배달, 달이, 이빨, 빨라, 라요
+//영문, 숫자는 단어 단위로 자르고 소문자로 맞춤
+final class KoreanTokenizer {
+
+    private KoreanTokenizer() {
+        throw new UnsupportedOperationException(
+                "유틸리티 클래스는 인스턴스를 바깥에서 생성할 수 없음");
+    }
+
+    //문장을 색인어 목록으로 변환 (같은 색인어가 여러 번 나오면 그대로 여러 번 포함 -> 빈도 계산용)
+    static List<String> tokenize(final String text) {
+        final List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        //전각 문자, 호환 자모 등을 표준 형태로 맞춘 뒤 소문자로
+        final String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            final boolean isWordChar = i < normalized.length()
+                    && Character.isLetterOrDigit(normalized.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                addWord(normalized.substring(start, i), tokens);
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    //한글이 섞인 단어는 bigram, 그 외 단어는 통째로
+    private static void addWord(final String word, final List<String> tokens) {
+        if (!containsHangul(word)) {
+            tokens.add(word);
+            return;
+        }
+        if (word.length() == 1) {
+            tokens.add(word);
+            return;
+        }
+        for (int i = 0; i + 2 <= word.length(); i++) {
+            tokens.add(word.substring(i, i + 2));
+        }
+    }
+
+    private static boolean containsHangul(final String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.UnicodeScript.of(word.charAt(i)) == Character.UnicodeScript.HANGUL) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
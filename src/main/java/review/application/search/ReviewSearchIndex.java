@@ -0,0 +1,141 @@
+package review.application.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+//리뷰 내용 역색인 (메모리)
+//색인어 -> (리뷰 id -> 등장 횟수) 형태로 저장해서 LIKE '%...%' 처럼 테이블 전체를 읽지 않고
+//검색어가 들어있는 리뷰만 바로 찾는다.
+//점수는 BM25 (검색어가 자주 나올수록, 흔하지 않은 색인어일수록, 리뷰가 짧을수록 높음)
+@Component
+public class ReviewSearchIndex {
+
+    //BM25 기본 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    //조회는 동시에 여러 개, 변경은 한 번에 하나만
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Map<UUID, Integer>> postings = new HashMap<>();
+    private final Map<UUID, IndexedReview> reviews = new HashMap<>();
+    private long totalLength;
+
+    //리뷰 색인 (이미 있으면 교체)
+    public void index(final UUID reviewId, final UUID storeId, final String content) {
+        final List<String> tokens = KoreanTokenizer.tokenize(content);
+        final Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(reviewId);
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(reviewId, frequency));
+            reviews.put(reviewId, new IndexedReview(storeId, tokens.size(), frequencies.keySet()));
+            totalLength += tokens.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final UUID reviewId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(reviewId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    //검색어에 맞는 리뷰 id를 점수 순으로 정렬해서 page 만큼 반환
+    //storeId가 있으면 해당 가게 리뷰만
+    public SearchResult search(final String query, final UUID storeId, final int page, final int size) {
+        final Set<String> terms = new LinkedHashSet<>(KoreanTokenizer.tokenize(query));
+        final Map<UUID, Double> scores = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            if (reviews.isEmpty()) {
+                return new SearchResult(List.of(), 0);
+            }
+            final double averageLength = (double) totalLength / reviews.size();
+
+            for (String term : terms) {
+                final Map<UUID, Integer> postingList = postings.get(term);
+                if (postingList == null) {
+                    continue;
+                }
+                //흔한 색인어일수록 점수 비중이 낮아짐
+                final double idf = Math.log(1 + (reviews.size() - postingList.size() + 0.5)
+                        / (postingList.size() + 0.5));
+
+                postingList.forEach((reviewId, frequency) -> {
+                    final IndexedReview indexed = reviews.get(reviewId);
+                    if (storeId != null && !storeId.equals(indexed.storeId())) {
+                        return;
+                    }
+                    final double normalizedLength = 1 - B + B * indexed.length() / averageLength;
+                    final double score = idf * frequency * (K1 + 1) / (frequency + K1 * normalizedLength);
+                    scores.merge(reviewId, score, Double::sum);
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        //점수 내림차순, 같으면 id 순으로 고정 (페이지가 바뀌어도 순서 유지)
+        final List<UUID> ranked = scores.entrySet().stream()
+                .sorted(Map.Entry.<UUID, Double>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .skip((long) page * size)
+                .limit(size)
+                .map(Map.Entry::getKey)
+                .toList();
+        return new SearchResult(new ArrayList<>(ranked), scores.size());
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return reviews.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(final UUID reviewId) {
+        final IndexedReview removed = reviews.remove(reviewId);
+        if (removed == null) {
+            return;
+        }
+        totalLength -= removed.length();
+        for (String term : removed.terms()) {
+            final Map<UUID, Integer> postingList = postings.get(term);
+            postingList.remove(reviewId);
+            if (postingList.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    //색인된 리뷰 정보 - 삭제할 때 어떤 색인어에서 빼야 하는지 알기 위해 terms 보관
+    private record IndexedReview(UUID storeId, int length, Set<String> terms) {
+    }
+
+    //검색 결과 - 현재 페이지의 리뷰 id (점수 순), 검색어에 맞는 전체 리뷰 수
+    public record SearchResult(List<UUID> reviewIds, long totalElements) {
+    }
+}
@@ -0,0 +1,66 @@
+package review.application.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import review.application.event.ReviewChangedEvent;
+import review.domain.repository.ReviewRepository;
+import review.domain.repository.vo.ReviewSearchDocument;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+//검색 색인 유지
+//서버 시작 시 p_review 전체로 색인을 만들고, 이후에는 리뷰 생성/수정/삭제 이벤트로 조금씩 갱신
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewSearchIndexer {
+
+    //재구축 시 DB에서 한 번에 가져오는 row 수
+    private static final int REBUILD_FETCH_SIZE = 1000;
+
+    private final ReviewSearchIndex reviewSearchIndex;
+    private final ReviewRepository reviewRepository;
+
+    //재구축 중에 이벤트로 먼저 반영된 리뷰 id
+    //재구축이 읽은 row가 이벤트보다 오래된 내용일 수 있으므로 이 리뷰들은 재구축에서 건너뜀
+    private final Set<UUID> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    //커밋된 변경만 색인에 반영
+    @TransactionalEventListener
+    public void apply(final ReviewChangedEvent event) {
+        if (rebuilding) {
+            changedDuringRebuild.add(event.reviewId());
+        }
+        switch (event.type()) {
+            case CREATED, UPDATED -> reviewSearchIndex.index(event.reviewId(), event.storeId(), event.content());
+            case DELETED -> reviewSearchIndex.remove(event.reviewId());
+        }
+    }
+
+    //서버 시작 후 삭제되지 않은 리뷰 전체를 커서로 읽어서 색인
+    //ApplicationReadyEvent는 이미 요청을 받기 시작한 뒤에 발생하므로
+    //색인이 끝나기 전의 검색은 일부 결과만 나올 수 있음
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        rebuilding = true;
+        try (Stream<ReviewSearchDocument> documents = reviewRepository.streamSearchDocuments(REBUILD_FETCH_SIZE)) {
+            documents.filter(document -> !changedDuringRebuild.contains(document.reviewId()))
+                    .forEach(document -> reviewSearchIndex.index(document.reviewId(), document.storeId(),
+                            document.content()));
+        } finally {
+            rebuilding = false;
+            changedDuringRebuild.clear();
+        }
+        log.info("리뷰 검색 색인 재구축 완료 - {} 건", reviewSearchIndex.size());
+    }
+}
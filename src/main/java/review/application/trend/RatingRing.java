@@ -0,0 +1,52 @@
+package review.application.trend;
+
+import java.util.Arrays;
+
+//시간 구간(bucket)별 리뷰 개수, 평점 합계를 담는 고정 크기 링 버퍼
+//구간 번호(period - 시 또는 일 단위 번호)를 size 로 나눈 나머지 칸에 저장하고,
+//칸에 들어있는 구간 번호가 다르면 지나간 구간이므로 0 부터 다시 센다. (오래된 칸을 따로 지우지 않음)
+//동기화는 StoreRatingTrend 가 담당
+final class RatingRing {
+
+    private final int size;
+    private final int[] periods;
+    private final int[] counts;
+    private final int[] sums;
+
+    RatingRing(final int size) {
+        this.size = size;
+        this.periods = new int[size];
+        this.counts = new int[size];
+        this.sums = new int[size];
+        Arrays.fill(periods, Integer.MIN_VALUE);
+    }
+
+    //current 기준 최근 size 개 구간 밖이면 무시 (너무 오래됐거나 미래 시각)
+    void add(final int period, final int current, final int rating, final int delta) {
+        if (period > current || period <= current - size) {
+            return;
+        }
+        final int slot = Math.floorMod(period, size);
+        if (periods[slot] != period) {
+            periods[slot] = period;
+            counts[slot] = 0;
+            sums[slot] = 0;
+        }
+        counts[slot] += delta;
+        sums[slot] += rating * delta;
+    }
+
+    //구간 [from, to] 의 리뷰 개수, 평점 합계 - 읽는 칸 수 = to - from + 1
+    long[] sum(final int from, final int to) {
+        long count = 0;
+        long sum = 0;
+        for (int period = from; period <= to; period++) {
+            final int slot = Math.floorMod(period, size);
+            if (periods[slot] == period) {
+                count += counts[slot];
+                sum += sums[slot];
+            }
+        }
+        return new long[]{count, sum};
+    }
+}
@@ -0,0 +1,56 @@
+package review.application.trend;
+
+import review.application.dto.response.StoreRatingTrendResponse;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+//가게 하나의 기간별 평점 추이
+//- 시간 단위 48칸 : 최근 24시간, 그 전 24시간
+//- 일 단위 60칸  : 최근 7일/30일, 그 전 7일/30일
+//가게당 108칸 x 3개 int (약 1.3KB), 조회는 칸 수만큼만 더함
+//구간 경계는 시/일 단위 - 24시간은 현재 시각이 속한 시간을 포함한 24개 시간, 7일/30일은 오늘을 포함한 날짜 기준
+final class StoreRatingTrend {
+
+    static final int HOURLY_BUCKETS = 48;
+    static final int DAILY_BUCKETS = 60;
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final RatingRing hours = new RatingRing(HOURLY_BUCKETS);
+    private final RatingRing days = new RatingRing(DAILY_BUCKETS);
+
+    //delta : 리뷰 추가 +1, 제거 -1
+    synchronized void add(final LocalDateTime reviewTime, final int rating, final int delta,
+                          final LocalDateTime now) {
+        hours.add(hour(reviewTime), hour(now), rating, delta);
+        days.add(day(reviewTime), day(now), rating, delta);
+    }
+
+    synchronized StoreRatingTrendResponse snapshot(final UUID storeId, final LocalDateTime now) {
+        final int hour = hour(now);
+        final int day = day(now);
+        return new StoreRatingTrendResponse(storeId, List.of(
+                window("24h", hours, hour, 24),
+                window("7d", days, day, 7),
+                window("30d", days, day, 30)));
+    }
+
+    //최근 length 칸과 그 바로 전 length 칸
+    private static StoreRatingTrendResponse.Window window(final String name, final RatingRing ring,
+                                                          final int current, final int length) {
+        final long[] recent = ring.sum(current - length + 1, current);
+        final long[] previous = ring.sum(current - 2 * length + 1, current - length);
+        return StoreRatingTrendResponse.Window.of(name, recent[0], recent[1], previous[0], previous[1]);
+    }
+
+    private static int hour(final LocalDateTime time) {
+        return (int) (time.atZone(ZONE).toEpochSecond() / 3600);
+    }
+
+    private static int day(final LocalDateTime time) {
+        return (int) time.toLocalDate().toEpochDay();
+    }
+}
@@ -0,0 +1,198 @@
+package review.application.trend;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import review.application.dto.response.StoreRatingTrendResponse;
+import review.application.event.ReviewChangedEvent;
+import review.domain.repository.ReviewRepository;
+import review.domain.repository.vo.ReviewRatingPoint;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+//가게별 기간 평점 추이 (최근 24시간/7일/30일)
+//가게마다 StoreRatingTrend(시간/일 단위 링 버퍼)를 메모리에 두고 리뷰 생성/수정/삭제 이벤트로 갱신한다.
+//리뷰 작성 시간(ReviewTime) 기준으로 구간에 넣으므로 수정으로 작성 시간이 바뀌면 이전 구간에서 빼고 새 구간에 더함
+//
+//- 캐시에 없는 가게는 조회 시 p_review 에서 최근 60일 리뷰로 다시 만든다. (idx_review_store_review_time_live)
+//- 최근 조회되지 않은 가게(expire-after-access)나 개수 한도(maximum-size)를 넘으면 제거 -> 다음 조회 때 다시 만듦
+//- 다른 서버에서 일어난 변경은 이벤트로 받지 못하므로 만든 시점부터 resync-interval 이 지나면 제거하고 DB 에서 다시 만듦
+//  (이벤트로 갱신해도 만료 시각은 늘어나지 않음 -> 변경이 계속 들어오는 가게도 주기적으로 맞춰짐)
+//
+//DB 조회 결과에 이미 포함된 변경을 이벤트로 한 번 더 더하지 않도록
+//이벤트는 트랜잭션 안에서 발행 시각을 기록해 두고 커밋 후에 반영한다.
+//- 조회가 발행 전에 끝났으면 조회 결과에는 그 변경이 없음 -> 더함
+//- 조회가 발행 후에 끝났으면 포함 여부를 알 수 없음 -> 제거하고 다음 조회 때 다시 만듦
+@Slf4j
+@Component
+public class StoreRatingTrendAggregator {
+
+    //재구축 시 DB에서 한 번에 가져오는 row 수
+    private static final int REBUILD_FETCH_SIZE = 1000;
+
+    private final ReviewRepository reviewRepository;
+    private final boolean preloadOnStartup;
+    private final Cache<UUID, TrendEntry> trends;
+
+    //재구축 중에 변경된 가게 id - 재구축이 읽은 내용에 변경이 포함됐는지 알 수 없으므로 재구축 후 제거
+    private final Set<UUID> changedDuringPreload = ConcurrentHashMap.newKeySet();
+    private volatile boolean preloading;
+
+    public StoreRatingTrendAggregator(ReviewRepository reviewRepository,
+                                      @Value("${review.trend.maximum-size:20000}") long maximumSize,
+                                      @Value("${review.trend.expire-after-access:1h}") Duration expireAfterAccess,
+                                      @Value("${review.trend.resync-interval:1h}") Duration resyncInterval,
+                                      @Value("${review.trend.preload-on-startup:false}") boolean preloadOnStartup,
+                                      MeterRegistry meterRegistry) {
+        this.reviewRepository = reviewRepository;
+        this.preloadOnStartup = preloadOnStartup;
+        this.trends = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TrendExpiry(expireAfterAccess.toNanos(), resyncInterval.toNanos()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, trends, "storeRatingTrend");
+    }
+
+    //없으면 DB 에서 만든 뒤 반환 - 같은 가게 조회가 동시에 들어와도 DB 조회는 한 번
+    public StoreRatingTrendResponse trend(final UUID storeId) {
+        return trends.get(storeId, this::load).trend().snapshot(storeId, LocalDateTime.now());
+    }
+
+    //리뷰 트랜잭션 안에서 발행 시각만 기록하고, 커밋된 경우에만 반영 (롤백 시 반영 안됨)
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(final ReviewChangedEvent event) {
+        final long publishedAt = System.nanoTime();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(event, publishedAt);
+            }
+        });
+    }
+
+    //메모리에 있는 가게만 갱신 (없는 가게는 다음 조회 때 DB 에서 만들어짐)
+    //computeIfPresent 는 같은 가게를 만드는 중이면 끝날 때까지 기다렸다가 반영함
+    private void apply(final ReviewChangedEvent event, final long publishedAt) {
+        if (preloading) {
+            changedDuringPreload.add(event.storeId());
+        }
+        final LocalDateTime now = LocalDateTime.now();
+        trends.asMap().computeIfPresent(event.storeId(), (storeId, entry) -> {
+            //조회가 발행 이후에 끝났으면 이미 반영된 변경일 수 있음 -> 제거
+            if (entry.loadedAt() - publishedAt >= 0) {
+                return null;
+            }
+            final StoreRatingTrend trend = entry.trend();
+            switch (event.type()) {
+                case CREATED -> add(trend, event.reviewTime(), event.rating(), 1, now);
+                case UPDATED -> {
+                    add(trend, event.previousReviewTime(), event.previousRating(), -1, now);
+                    add(trend, event.reviewTime(), event.rating(), 1, now);
+                }
+                case DELETED -> add(trend, event.reviewTime(), event.rating(), -1, now);
+            }
+            return entry;
+        });
+    }
+
+    //서버 시작 후 최근 60일 리뷰가 있는 가게를 미리 만들어 둠 (review.trend.preload-on-startup)
+    //p_review 의 최근 리뷰를 한 번 전부 읽으므로 기본값은 사용 안 함 (조회될 때 가게별로 만들어짐)
+    //재구축 중에 변경된 가게와 이미 조회로 만들어진 가게는 재구축 결과를 쓰지 않음
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void preload() {
+        if (!preloadOnStartup) {
+            return;
+        }
+        preloading = true;
+        try {
+            final LocalDateTime now = LocalDateTime.now();
+            final Map<UUID, StoreRatingTrend> loaded = new HashMap<>();
+            try (Stream<ReviewRatingPoint> points = reviewRepository.streamRatingPoints(from(now),
+                    REBUILD_FETCH_SIZE)) {
+                points.forEach(point -> loaded.computeIfAbsent(point.storeId(), id -> new StoreRatingTrend())
+                        .add(point.reviewTime(), point.rating(), 1, now));
+            }
+            final long loadedAt = System.nanoTime();
+
+            //먼저 넣고 나서 변경 여부를 확인해야 넣기 직전에 들어온 변경도 놓치지 않음
+            loaded.forEach((storeId, trend) -> trends.asMap().putIfAbsent(storeId, new TrendEntry(trend, loadedAt)));
+            trends.invalidateAll(changedDuringPreload);
+            log.info("가게 평점 추이 재구축 완료 - 가게 {} 곳", loaded.size());
+        } finally {
+            preloading = false;
+            changedDuringPreload.clear();
+        }
+    }
+
+    private TrendEntry load(final UUID storeId) {
+        final LocalDateTime now = LocalDateTime.now();
+        final StoreRatingTrend trend = new StoreRatingTrend();
+        for (ReviewRatingPoint point : reviewRepository.findRatingPointsByStoreId(storeId, from(now))) {
+            trend.add(point.reviewTime(), point.rating(), 1, now);
+        }
+        return new TrendEntry(trend, System.nanoTime());
+    }
+
+    private static void add(final StoreRatingTrend trend, final LocalDateTime reviewTime, final Integer rating,
+                            final int delta, final LocalDateTime now) {
+        if (reviewTime != null && rating != null) {
+            trend.add(reviewTime, rating, delta, now);
+        }
+    }
+
+    //가장 긴 구간(일 단위 60칸)의 시작
+    private static LocalDateTime from(final LocalDateTime now) {
+        return LocalDate.from(now).minusDays(StoreRatingTrend.DAILY_BUCKETS - 1).atStartOfDay();
+    }
+
+    //loadedAt : DB 조회가 끝난 시각 (System.nanoTime) - 이벤트 반영 여부와 resync 만료 기준
+    private record TrendEntry(StoreRatingTrend trend, long loadedAt) {
+    }
+
+    //만료 시각 = min(마지막 조회 + expire-after-access, 만든 시각 + resync-interval)
+    //이벤트 반영(update)은 만료 시각을 바꾸지 않음
+    private record TrendExpiry(long expireAfterAccess, long resyncInterval) implements Expiry<UUID, TrendEntry> {
+
+        @Override
+        public long expireAfterCreate(UUID storeId, TrendEntry entry, long currentTime) {
+            return Math.min(expireAfterAccess, untilResync(entry, currentTime));
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID storeId, TrendEntry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(UUID storeId, TrendEntry entry, long currentTime, long currentDuration) {
+            return Math.min(expireAfterAccess, untilResync(entry, currentTime));
+        }
+
+        private long untilResync(final TrendEntry entry, final long currentTime) {
+            return Math.max(0, resyncInterval - (currentTime - entry.loadedAt()));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package review.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import review.application.cache.ReviewJsonCache;
+import review.application.dto.response.ReviewListResponse;
+import review.application.dto.response.ReviewListResponseSerializer;
+
+//JSON 직렬화 설정
+//Module 빈은 스프링 부트가 만드는 ObjectMapper 에 자동으로 등록됨 (HTTP 응답에 사용되는 ObjectMapper)
+@Configuration
+public class JacksonConfig {
+
+    //목록 응답은 리뷰별로 미리 만든 JSON 을 재사용 (ReviewJsonCache)
+    @Bean
+    public Module reviewJsonModule(ReviewJsonCache reviewJsonCache) {
+        return new SimpleModule("reviewJson")
+                .addSerializer(ReviewListResponse.class, new ReviewListResponseSerializer(reviewJsonCache));
+    }
+}
@@ -0,0 +1,34 @@
+package review.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import review.infrastructure.metrics.RequestBudgetProperties;
+import review.infrastructure.metrics.SqlMetricsInterceptor;
+
+//지표 수집 설정
+//@Timed 가 붙은 메소드의 실행 시간 측정 + 요청별 SQL 개수 측정 인터셉터 등록
+//수집된 지표는 /actuator/prometheus 로 노출
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(RequestBudgetProperties.class)
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final SqlMetricsInterceptor sqlMetricsInterceptor;
+
+    //@Timed 어노테이션을 AOP로 처리
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(sqlMetricsInterceptor).addPathPatterns("/reviews/**");
+    }
+}
@@ -0,0 +1,14 @@
+package review.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+//@Scheduled 어노테이션이 붙은 메소드를 주기적으로 실행하도록 활성화
+//파티션 이전 도구로 실행할 때(review.partition.migration.step)는 사용 안 함
+//스케줄은 ApplicationRunner 보다 먼저 시작되므로 켜두면 이전 중에 flush/아카이브/outbox 작업이 같이 돌게 됨
+@Configuration
+@EnableScheduling
+@ConditionalOnExpression("'${review.partition.migration.step:}'.isEmpty()")
+public class SchedulingConfig {
+}
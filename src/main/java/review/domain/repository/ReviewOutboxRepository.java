@@ -0,0 +1,37 @@
+package review.domain.repository;
+
+import review.domain.repository.vo.ReviewOutboxEvent;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+//리뷰 이벤트 아웃박스 저장소
+public interface ReviewOutboxRepository {
+
+    ReviewOutboxEvent save(ReviewOutboxEvent event);
+
+    //지금까지의 변경(리뷰 UPDATE/DELETE 등)을 DB 에 반영
+    //아웃박스 INSERT 보다 먼저 실행해서 row 잠금을 먼저 잡음 -> 같은 리뷰를 바꾸는 트랜잭션끼리는 commitSeq 순서 = 커밋 순서
+    void flush();
+
+    //디스패처는 동시에 하나만 실행 (트랜잭션이 끝나면 자동 해제)
+    //여러 서버가 동시에 꺼내가면 같은 가게 이벤트 순서가 섞이기 때문
+    boolean tryLockDispatcher();
+
+    //처리할 이벤트를 commitSeq 순으로 limit 개 조회
+    //진행 중인 가장 오래된 트랜잭션보다 나중에 기록된 이벤트는 그 트랜잭션이 끝날 때까지 제외
+    //앞선 이벤트가 재시도 대기 중이거나 아직 제외된 가게의 이벤트는 순서를 지키기 위해 제외
+    List<ReviewOutboxEvent> findDispatchable(int limit);
+
+    void deleteAllByIdIn(Collection<Long> ids);
+
+    //처리 실패 - 실패 횟수 +1, nextAttemptAt 이후에 다시 시도
+    void markRetry(Collection<Long> ids, LocalDateTime nextAttemptAt);
+
+    //처리할 수 없는 이벤트를 아웃박스에서 p_review_outbox_dead_letter 로 옮김
+    void moveToDeadLetter(Long id, String error);
+
+    //가장 오래된 미처리 이벤트 생성 시각 (지연 지표용)
+    LocalDateTime findOldestCreatedAt();
+}
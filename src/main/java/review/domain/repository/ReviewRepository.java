@@ -3,11 +3,23 @@ package review.domain.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
+import review.application.dto.response.ReviewResponse;
+import review.domain.repository.vo.ModeratedReview;
+import review.domain.repository.vo.OrderHistory;
 import review.domain.repository.vo.Review;
+import review.domain.repository.vo.ReviewCursor;
+import review.domain.repository.vo.ReviewRatingPoint;
+import review.domain.repository.vo.ReviewSearchDocument;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 //JpaRepository를 상속받지 않음 → JPA에 직접 의존하지 않도록 설계됨
 //jpa 대신 mybatis 같은 다른 DB기술로 변경시 ReviewRepositoryImpl구현체만 바꾸면됨
@@ -20,11 +32,25 @@ public interface ReviewRepository {
     //JPA가 Review entity 자동으로 저장 메소드
     Review save(Review review);
 
+    //저장 후 바로 INSERT 실행 - 유니크 제약조건 위반을 이 시점에 확인하기 위해 사용
+    Review saveAndFlush(Review review);
+
+    //여러 건 저장 - hibernate.jdbc.batch_size 단위로 INSERT를 묶어서 전송
+    //저장 후 영속성 컨텍스트를 비워서 대량 저장 시 메모리가 쌓이지 않게 함
+    List<Review> saveAllAndClear(List<Review> reviews);
+
     //동일한 주문에 대해 리뷰가 이미 등록된 경우 예외 발생 service의 JPA
     //존재시 true, 없으면 false
     //리뷰 중복 등록 방지
+    //삭제된 리뷰도 포함 - 유니크 인덱스가 삭제된 리뷰의 주문도 막으므로 같은 기준으로 확인
     boolean existsByOrderHistoryId(UUID orderHistoryId);
 
+    //여러 주문 중 이미 리뷰가 있는 주문 id만 조회 (쿼리 한 번, 삭제된 리뷰 포함)
+    Set<UUID> findReviewedOrderHistoryIds(Collection<UUID> orderHistoryIds);
+
+    //리뷰 일괄 생성 시 주문 내역을 한 번에 조회
+    List<OrderHistory> findOrderHistoriesByIds(Collection<UUID> orderHistoryIds);
+
     //reviewId로 특정 리뷰 조회
     //리뷰 없을 수 있기 때문에 Optional 사용
     //SELECT * FROM review WHERE id = ?;
@@ -42,4 +68,56 @@ public interface ReviewRepository {
     //특정 유저가 작성한 리뷰 목록 조회
     //Page<Review> 를 반환 → 페이징 & 정렬 적용 가능
     Page<Review> findAllByUserId(Long userId, Pageable pageable);
+
+    //커서 페이징 - cursor 이후의 가게 리뷰를 limit 개 만큼 조회
+    //cursor가 null이면 첫 페이지, 작성일시 + review_id 순으로 정렬
+    List<Review> findAllByStoreIdAfterCursor(UUID storeId, ReviewCursor cursor, int limit, boolean isAsc);
+
+    //커서 페이징 - cursor 이후의 유저 리뷰를 limit 개 만큼 조회
+    List<Review> findAllByUserIdAfterCursor(Long userId, ReviewCursor cursor, int limit, boolean isAsc);
+
+    //조회 전용 - 엔티티 대신 ReviewResponse를 쿼리 한 번으로 바로 만들어서 반환
+    //user, orderHistory 지연 로딩이 일어나지 않아서 N+1 문제가 없음
+    Optional<ReviewResponse> findResponseById(UUID reviewId);
+
+    Page<ReviewResponse> findResponsesByStoreId(UUID storeId, Pageable pageable);
+
+    Page<ReviewResponse> findResponsesByUserId(Long userId, Pageable pageable);
+
+    //COUNT 쿼리 없이 size + 1 개를 조회해서 다음 페이지 존재 여부만 판단
+    Slice<ReviewResponse> findResponseSliceByStoreId(UUID storeId, Pageable pageable);
+
+    Slice<ReviewResponse> findResponseSliceByUserId(Long userId, Pageable pageable);
+
+    //가게 리뷰 전체를 커서로 조금씩 읽어오는 스트림 (내보내기용)
+    //fetchSize 개씩 DB에서 가져오므로 리뷰가 많아도 메모리 사용량이 일정함
+    //반드시 트랜잭션 안에서 사용하고, 다 쓴 뒤 close 해야 함
+    Stream<ReviewResponse> streamResponsesByStoreId(UUID storeId, int fetchSize);
+
+    //여러 리뷰를 id로 한 번에 조회 (순서 보장 안됨)
+    List<ReviewResponse> findResponsesByIds(Collection<UUID> reviewIds);
+
+    //삭제되지 않은 리뷰 전체를 검색 색인용으로 커서 조회
+    Stream<ReviewSearchDocument> streamSearchDocuments(int fetchSize);
+
+    //리뷰가 있는 주문 id 전체를 커서 조회 (중복 리뷰 필터 준비용, 삭제된 리뷰 포함)
+    Stream<UUID> streamOrderHistoryIds(int fetchSize);
+
+    //deletedBefore 이전에 삭제된 리뷰를 최대 limit 개 p_review_archive로 옮김
+    //옮긴 개수 반환 - limit 보다 작으면 더 옮길 리뷰가 없음
+    int archiveDeletedReviews(LocalDateTime deletedBefore, int limit);
+
+    //모더레이션 일괄 삭제 - 최대 limit 개(또는 reviewIds)를 UPDATE 한 번으로 삭제 처리하고 삭제된 리뷰 반환
+    //반환 개수가 limit 보다 작으면 더 삭제할 리뷰가 없음
+    List<ModeratedReview> softDeleteByUserId(Long userId, int limit);
+
+    List<ModeratedReview> softDeleteByStoreIdAndCreatedAt(UUID storeId, LocalDateTime from, LocalDateTime to,
+                                                          int limit);
+
+    List<ModeratedReview> softDeleteByIds(Collection<UUID> reviewIds);
+
+    //기간별 평점 추이 재구축 - reviewTime 이 from 이후인 삭제되지 않은 리뷰의 (가게, 작성 시간, 평점)
+    List<ReviewRatingPoint> findRatingPointsByStoreId(UUID storeId, LocalDateTime from);
+
+    Stream<ReviewRatingPoint> streamRatingPoints(LocalDateTime from, int fetchSize);
 }
@@ -0,0 +1,24 @@
+package review.domain.repository;
+
+import review.domain.repository.vo.StarCounts;
+import review.domain.repository.vo.StoreRatingDelta;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+//가게 평점 변경분 저널 저장소
+//ReviewRepository와 마찬가지로 JPA에 직접 의존하지 않는 껍데기
+public interface StoreRatingDeltaRepository {
+
+    //리뷰 트랜잭션 안에서 변경분 INSERT
+    StoreRatingDelta save(StoreRatingDelta delta);
+
+    //가게의 변경분을 삭제하면서 가져옴 (DELETE ... RETURNING) - 삭제한 row 들의 별점별 변화량 합계 반환
+    //다른 트랜잭션이 가져가는 중인 row 는 기다리지 않고 건너뜀 (SKIP LOCKED)
+    //반드시 가게 평점 반영과 같은 트랜잭션 안에서 호출 -> 반영이 롤백되면 삭제도 롤백됨
+    StarCounts claimByStoreId(UUID storeId);
+
+    //before 이전에 기록되어 아직 남아있는 변경분의 가게 id (재시작, 다른 서버가 죽은 경우 복구용)
+    List<UUID> findStoreIdsRecordedBefore(LocalDateTime before);
+}
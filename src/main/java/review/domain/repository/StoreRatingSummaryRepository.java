@@ -0,0 +1,17 @@
+package review.domain.repository;
+
+import review.domain.repository.vo.StarCounts;
+import review.domain.repository.vo.StoreRatingSummary;
+
+import java.util.Optional;
+import java.util.UUID;
+
+//가게별 별점 분포 저장소
+public interface StoreRatingSummaryRepository {
+
+    //가게 별점 분포에 변경분을 더함 (row 가 없으면 변경분으로 생성)
+    //기존 가게의 row 는 V7 마이그레이션에서 미리 채워두므로 p_review 를 다시 집계하지 않는다.
+    void addStarCounts(UUID storeId, StarCounts starDeltas);
+
+    Optional<StoreRatingSummary> findByStoreId(UUID storeId);
+}
@@ -0,0 +1,13 @@
+package review.domain.repository;
+
+import java.util.Optional;
+
+//유저별 리뷰 개수 저장소
+public interface UserReviewCountRepository {
+
+    //유저 리뷰 개수에 변화량을 더함 (row 가 없으면 변화량으로 생성)
+    //기존 유저의 row 는 V8 마이그레이션에서 미리 채워둠
+    void addCount(Long userId, long delta);
+
+    Optional<Long> findCountByUserId(Long userId);
+}
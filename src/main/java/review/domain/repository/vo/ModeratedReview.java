@@ -0,0 +1,19 @@
+package review.domain.repository.vo;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+//일괄 삭제(모더레이션)로 삭제 처리된 리뷰 - UPDATE ... RETURNING 결과
+//가게 평점 변경분, 리뷰 변경 이벤트를 만드는 데 필요한 값만 담음
+public interface ModeratedReview {
+
+    UUID getReviewId();
+
+    UUID getStoreId();
+
+    Long getUserId();
+
+    Integer getRating();
+
+    LocalDateTime getReviewTime();
+}
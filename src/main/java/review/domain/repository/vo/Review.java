@@ -5,6 +5,8 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
+import review.infrastructure.id.TimeOrderedUuid;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -16,7 +18,14 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 
 //JPA어노테이션으로 테이블 매핑
-@Table(name = "p_review")
+//주문 하나에 리뷰는 하나만 - 중복 확인을 건너뛰어도 DB가 최종적으로 막아줌
+@Table(name = "p_review",
+        uniqueConstraints = @UniqueConstraint(name = "uk_review_order_history_id",
+                columnNames = "order_history_id"))
+
+//삭제된 리뷰는 모든 조회에서 제외 (findById, 목록, COUNT, QueryDSL 조회 모두 WHERE is_deleted = false 가 붙음)
+//삭제된 리뷰를 다뤄야 하는 보관(archive) 작업은 native query로 처리
+@SQLRestriction("is_deleted = false")
 
 //JPA 어노테이션으로 entity 클래스를 나타냄
 //이 클래스는 반드시 DB table과 일치해야함
@@ -27,8 +36,9 @@ public class Review extends TimeStamp {
     //entity 클래스는 id로 정의된 기본키를 가져야한다.
     //JPA 어노테이션, id값을 UUID로 생성 지정
     //UUID는 중복가능성이 없는 고유식별자
+    //시간 순서 UUID(v7) - 새 리뷰가 PK 인덱스 끝에만 추가되어 인덱스가 조각나지 않음
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "review_id")
     private UUID id;
 
@@ -70,6 +80,10 @@ public class Review extends TimeStamp {
     @Column(name = "is_deleted") //DB테이블 연결
     private boolean isDeleted;
 
+    //삭제 시각 - 보관 기간이 지난 삭제 리뷰를 p_review_archive로 옮길 때 기준
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     public Review(final OrderHistory orderHistory, final User user, final String content,
                   final Integer rating,
                   final LocalDateTime reviewTime) {
@@ -92,5 +106,6 @@ public class Review extends TimeStamp {
     //리뷰가 삭제된 상태로 표시
     public void softDelete() {
         this.isDeleted = true;
+        this.deletedAt = LocalDateTime.now();
     }
 }
\ No newline at end of file
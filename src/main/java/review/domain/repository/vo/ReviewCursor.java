@@ -0,0 +1,44 @@
+package review.domain.repository.vo;
+
+import review.exception.InvalidReviewCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+//커서(keyset) 페이징에 사용하는 위치 정보
+//마지막으로 내려준 리뷰의 (정렬 기준값, review_id)를 기억해두고
+//다음 요청에서는 그 값보다 뒤에 있는 리뷰만 가져온다.
+//OFFSET 처럼 앞의 row를 버리면서 읽지 않기 때문에 몇 번째 페이지든 비용이 같음
+public record ReviewCursor(LocalDateTime createdAt, UUID reviewId) {
+
+    private static final String DELIMITER = "|";
+
+    public static ReviewCursor of(final Review review) {
+        return new ReviewCursor(review.getCreatedAt(), review.getId());
+    }
+
+    //클라이언트에는 내부 구조를 알 수 없는 문자열로 내려줌
+    public String encode() {
+        final String raw = createdAt + DELIMITER + reviewId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    //커서가 없으면 첫 페이지 요청이므로 null 반환
+    public static ReviewCursor decode(final String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final int index = raw.indexOf(DELIMITER);
+            return new ReviewCursor(LocalDateTime.parse(raw.substring(0, index)),
+                    UUID.fromString(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidReviewCursorException(cursor);
+        }
+    }
+}
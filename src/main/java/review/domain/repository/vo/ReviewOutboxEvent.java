@@ -0,0 +1,69 @@
+package review.domain.repository.vo;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import review.enums.ReviewChangeType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+
+//트랜잭션 아웃박스
+//리뷰 생성/수정/삭제와 같은 트랜잭션에서 이벤트를 INSERT 해두고, 별도 디스패처가 모아서 처리한다.
+//리뷰가 커밋되면 이벤트도 반드시 남아있고, 롤백되면 이벤트도 사라짐
+@Table(name = "p_review_outbox",
+        indexes = @Index(name = "idx_review_outbox_store_commit_seq", columnList = "store_id, commit_seq"))
+@Entity
+public class ReviewOutboxEvent {
+
+    //IDENTITY 를 쓰면 INSERT 를 batch 로 묶을 수 없으므로 시퀀스를 50개씩 미리 받아서 사용
+    //서버마다 미리 받은 범위가 달라서 커밋 순서와는 무관 -> 처리 순서는 commitSeq 기준
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_outbox_seq")
+    @SequenceGenerator(name = "review_outbox_seq", sequenceName = "p_review_outbox_seq", allocationSize = 50)
+    @Column(name = "review_outbox_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private ReviewChangeType eventType;
+
+    @Column(name = "store_id", nullable = false)
+    private UUID storeId;
+
+    @Column(name = "review_id", nullable = false)
+    private UUID reviewId;
+
+    //ReviewChangedEvent JSON
+    @Column(name = "payload", nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    //실패 횟수, 다음 재시도 가능 시각
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    //처리 순서 기준 - INSERT 때 DB 시퀀스(p_review_outbox_commit_seq)로 채워짐 (V4__review_outbox.sql)
+    @Column(name = "commit_seq", insertable = false, updatable = false)
+    private Long commitSeq;
+
+    public ReviewOutboxEvent(final ReviewChangeType eventType, final UUID storeId, final UUID reviewId,
+                             final String payload) {
+        this.eventType = eventType;
+        this.storeId = storeId;
+        this.reviewId = reviewId;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+        this.attempts = 0;
+        this.nextAttemptAt = this.createdAt;
+    }
+}
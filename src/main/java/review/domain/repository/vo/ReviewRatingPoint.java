@@ -0,0 +1,8 @@
+package review.domain.repository.vo;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+//기간별 평점 추이 재구축용 - 리뷰 한 건의 가게, 작성 시간, 평점
+public record ReviewRatingPoint(UUID storeId, LocalDateTime reviewTime, Integer rating) {
+}
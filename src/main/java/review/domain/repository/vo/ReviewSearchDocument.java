@@ -0,0 +1,7 @@
+package review.domain.repository.vo;
+
+import java.util.UUID;
+
+//검색 색인에 넣을 리뷰 정보 (색인 재구축 시 p_review에서 필요한 컬럼만 조회)
+public record ReviewSearchDocument(UUID reviewId, UUID storeId, String content) {
+}
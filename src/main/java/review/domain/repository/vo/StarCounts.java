@@ -0,0 +1,111 @@
+package review.domain.repository.vo;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+//별점(1~5)별 개수를 묶은 임베디드 타입
+//가게 별점 분포(StoreRatingSummary)와 평점 변경분(StoreRatingDelta) 양쪽에서 사용
+//변경분으로 쓸 때는 음수도 가능 (리뷰 삭제 시 해당 별점 -1)
+//별점별 개수만 있으면 리뷰 개수(합)와 평점 합계(별점 x 개수의 합)를 모두 계산할 수 있다.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Embeddable
+public class StarCounts {
+
+    public static final int MIN_STAR = 1;
+    public static final int MAX_STAR = 5;
+
+    @Column(name = "star_1", nullable = false)
+    private long star1;
+
+    @Column(name = "star_2", nullable = false)
+    private long star2;
+
+    @Column(name = "star_3", nullable = false)
+    private long star3;
+
+    @Column(name = "star_4", nullable = false)
+    private long star4;
+
+    @Column(name = "star_5", nullable = false)
+    private long star5;
+
+    private StarCounts(final long star1, final long star2, final long star3, final long star4,
+                       final long star5) {
+        this.star1 = star1;
+        this.star2 = star2;
+        this.star3 = star3;
+        this.star4 = star4;
+        this.star5 = star5;
+    }
+
+    public static StarCounts empty() {
+        return new StarCounts(0, 0, 0, 0, 0);
+    }
+
+    //별점 star 하나만 amount 만큼
+    public static StarCounts of(final int star, final long amount) {
+        return empty().plus(star, amount);
+    }
+
+    //리뷰 생성 - 새 별점 +1
+    public static StarCounts created(final int rating) {
+        return of(rating, 1);
+    }
+
+    //리뷰 수정 - 기존 별점 -1, 새 별점 +1
+    public static StarCounts updated(final int oldRating, final int newRating) {
+        return of(oldRating, -1).plus(newRating, 1);
+    }
+
+    //리뷰 삭제 - 기존 별점 -1
+    public static StarCounts deleted(final int rating) {
+        return of(rating, -1);
+    }
+
+    public StarCounts plus(final StarCounts other) {
+        return new StarCounts(star1 + other.star1, star2 + other.star2, star3 + other.star3,
+                star4 + other.star4, star5 + other.star5);
+    }
+
+    public StarCounts plus(final int star, final long amount) {
+        return switch (star) {
+            case 1 -> new StarCounts(star1 + amount, star2, star3, star4, star5);
+            case 2 -> new StarCounts(star1, star2 + amount, star3, star4, star5);
+            case 3 -> new StarCounts(star1, star2, star3 + amount, star4, star5);
+            case 4 -> new StarCounts(star1, star2, star3, star4 + amount, star5);
+            case 5 -> new StarCounts(star1, star2, star3, star4, star5 + amount);
+            default -> throw new IllegalArgumentException("별점은 1~5 사이여야 합니다. - star : " + star);
+        };
+    }
+
+    public long get(final int star) {
+        return switch (star) {
+            case 1 -> star1;
+            case 2 -> star2;
+            case 3 -> star3;
+            case 4 -> star4;
+            case 5 -> star5;
+            default -> throw new IllegalArgumentException("별점은 1~5 사이여야 합니다. - star : " + star);
+        };
+    }
+
+    //리뷰 개수 (변경분이면 개수 변화량)
+    public long total() {
+        return star1 + star2 + star3 + star4 + star5;
+    }
+
+    //평점 합계 (변경분이면 합계 변화량)
+    public BigDecimal ratingSum() {
+        return BigDecimal.valueOf(star1 + 2 * star2 + 3 * star3 + 4 * star4 + 5 * star5);
+    }
+
+    public boolean isZero() {
+        return star1 == 0 && star2 == 0 && star3 == 0 && star4 == 0 && star5 == 0;
+    }
+}
@@ -0,0 +1,58 @@
+package review.domain.repository.vo;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import review.infrastructure.id.TimeOrderedUuid;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+
+//가게 평점 변경분(delta)을 임시로 쌓아두는 저널 테이블 (V6__store_rating_journal.sql)
+//리뷰 트랜잭션 안에서는 가게 row를 직접 수정하지 않고 여기에 INSERT만 한다.
+//INSERT만 하기 때문에 같은 가게에 리뷰가 몰려도 row lock 경합이 없음
+//flush 가 DELETE ... RETURNING 으로 가져간(지운) row 만 가게 평점에 반영하므로
+//서버가 여러 대여도, 재시작해도 같은 변경분이 두 번 반영되지 않음
+@Table(name = "p_store_rating_delta",
+        indexes = @Index(name = "idx_store_rating_delta_store_id", columnList = "store_id"))
+@Entity
+public class StoreRatingDelta {
+
+    @Id
+    @TimeOrderedUuid
+    @Column(name = "store_rating_delta_id")
+    private UUID id;
+
+    @Column(name = "store_id", nullable = false)
+    private UUID storeId;
+
+    //리뷰 개수 변화량 (생성 +1, 수정 0, 삭제 -1)
+    @Column(name = "count_delta", nullable = false)
+    private int countDelta;
+
+    //평점 합계 변화량 (새 평점 - 기존 평점)
+    @Column(name = "sum_delta", nullable = false)
+    private BigDecimal sumDelta;
+
+    //별점별 개수 변화량 - 가게 별점 분포(StoreRatingSummary)에 반영
+    @Embedded
+    private StarCounts starDeltas;
+
+    //기록 시각 - 오래 남아있는 변경분(기록한 서버가 죽은 경우)을 찾을 때 사용
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    //개수, 합계 변화량은 별점별 변화량으로부터 계산
+    public StoreRatingDelta(final UUID storeId, final StarCounts starDeltas) {
+        this.storeId = storeId;
+        this.countDelta = Math.toIntExact(starDeltas.total());
+        this.sumDelta = starDeltas.ratingSum();
+        this.starDeltas = starDeltas;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,30 @@
+package review.domain.repository.vo;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+
+//가게별 별점 분포 (1~5점 각각 몇 개인지) (V6__store_rating_journal.sql)
+//리뷰가 몇 개든 가게당 row 하나라서 조회는 항상 PK 조회 한 번
+//StoreRatingFlushWriter가 평점 변경분을 반영할 때 INSERT ... ON CONFLICT 로 같이 갱신하고, 엔티티로는 조회만 한다.
+@Table(name = "p_store_rating_summary")
+@Entity
+public class StoreRatingSummary {
+
+    @Id
+    @Column(name = "store_id")
+    private UUID storeId;
+
+    @Embedded
+    private StarCounts starCounts;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,29 @@
+package review.domain.repository.vo;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+
+//유저별 살아있는(삭제되지 않은) 리뷰 개수 (V8__user_review_count.sql)
+//리뷰 목록의 대략적인 전체 개수를 COUNT 쿼리 없이 PK 조회 한 번으로 내려주기 위함
+//UserReviewCountRecorder가 리뷰 트랜잭션 안에서 INSERT ... ON CONFLICT 로 갱신하고, 엔티티로는 조회만 한다.
+@Table(name = "p_user_review_count")
+@Entity
+public class UserReviewCount {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
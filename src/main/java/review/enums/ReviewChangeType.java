@@ -0,0 +1,7 @@
+package review.enums;
+
+//리뷰 변경 종류
+//리뷰 생성/수정/삭제 이벤트를 구분하기 위해 사용
+public enum ReviewChangeType {
+    CREATED, UPDATED, DELETED
+}
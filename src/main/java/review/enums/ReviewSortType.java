@@ -0,0 +1,23 @@
+package review.enums;
+
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+@Getter
+//리뷰 목록 정렬 방식
+//아무 필드로나 정렬하면 인덱스가 없는 컬럼은 가게 리뷰 전체를 정렬해야 하므로 정해진 방식만 허용
+//각 정렬은 인덱스 순서와 같기 때문에 인덱스를 앞에서부터(또는 뒤에서부터) 읽기만 하면 된다.
+//  최신순, 오래된순 : (store_id | user_id, created_at, review_id)
+//  평점 높은순, 낮은순 : (store_id | user_id, rating, review_id)
+public enum ReviewSortType {
+    NEWEST(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"))),
+    OLDEST(Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("id"))),
+    HIGHEST_RATING(Sort.by(Sort.Order.desc("rating.value"), Sort.Order.desc("id"))),
+    LOWEST_RATING(Sort.by(Sort.Order.asc("rating.value"), Sort.Order.asc("id")));
+
+    private final Sort sort;
+
+    ReviewSortType(Sort sort) {
+        this.sort = sort;
+    }
+}
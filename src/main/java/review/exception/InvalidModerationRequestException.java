@@ -0,0 +1,10 @@
+package review.exception;
+
+public class InvalidModerationRequestException extends CustomBadRequestException {
+
+    public InvalidModerationRequestException(final String reason) {
+        super(String.format(
+                "잘못된 일괄 삭제 요청입니다. - %s",
+                reason));
+    }
+}
@@ -0,0 +1,10 @@
+package review.exception;
+
+public class InvalidReviewCursorException extends CustomBadRequestException {
+
+    public InvalidReviewCursorException(final String cursor) {
+        super(String.format(
+                "잘못된 커서입니다. - 요청 정보 { cursor : %s }",
+                cursor));
+    }
+}
@@ -1,5 +1,6 @@
 package review.exception;
 
+import java.util.Collection;
 import java.util.UUID;
 
 public class ReviewAlreadyExistsException extends CustomBadRequestException {
@@ -9,4 +10,11 @@ public class ReviewAlreadyExistsException extends CustomBadRequestException {
                 "해당 주문에 작성한 리뷰가 있습니다. - 요청 정보 { orderId : %s }",
                 orderId));
     }
+
+    //일괄 생성 중 어느 주문이 중복인지 알 수 없는 경우 (batch INSERT 실패)
+    public ReviewAlreadyExistsException(final Collection<UUID> orderIds) {
+        super(String.format(
+                "요청한 주문 중 이미 리뷰가 작성된 주문이 있습니다. - 요청 정보 { orderIds : %s }",
+                orderIds));
+    }
 }
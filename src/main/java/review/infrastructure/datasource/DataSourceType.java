@@ -0,0 +1,7 @@
+package review.infrastructure.datasource;
+
+//라우팅 대상 DB
+public enum DataSourceType {
+    PRIMARY, //쓰기 + 읽기
+    REPLICA  //읽기 전용 복제본
+}
@@ -0,0 +1,45 @@
+package review.infrastructure.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+//자기가 쓴 데이터 바로 읽기 (read-your-writes)
+//복제본은 primary 보다 조금 늦게 반영되므로, 방금 리뷰를 작성한 사용자가 바로 목록을 조회하면 자기 리뷰가 안 보일 수 있다.
+//쓰기 트랜잭션이 커밋된 사용자는 window 동안 읽기도 primary 로 보낸다.
+class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    ReadYourWritesTracker(final Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(1_000_000)
+                .build();
+    }
+
+    //현재 사용자가 쓰기를 커밋했다고 기록
+    void markCurrentUserWrote() {
+        final String user = currentUser();
+        if (user != null) {
+            recentWriters.put(user, Boolean.TRUE);
+        }
+    }
+
+    boolean isCurrentUserRecentWriter() {
+        final String user = currentUser();
+        return user != null && recentWriters.getIfPresent(user) != null;
+    }
+
+    //로그인하지 않은 요청은 추적하지 않음
+    private static String currentUser() {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,61 @@
+package review.infrastructure.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+
+//복제본 상태 확인
+//연결이 안되거나 복제 지연(lag)이 maxLag 보다 크면 unhealthy -> 읽기도 primary 로 보냄
+@Slf4j
+class ReplicaHealthMonitor {
+
+    //PostgreSQL 복제본의 마지막 반영 시각 기준 지연 시간 (초), primary 나 H2 에서는 사용하지 않음
+    private static final String LAG_QUERY =
+            "SELECT COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)";
+
+    private final DataSource replica;
+    private final Duration maxLag;
+    private final boolean checkLag;
+
+    private volatile boolean healthy = true;
+
+    ReplicaHealthMonitor(final DataSource replica, final Duration maxLag, final boolean checkLag) {
+        this.replica = replica;
+        this.maxLag = maxLag;
+        this.checkLag = checkLag;
+    }
+
+    boolean isHealthy() {
+        return healthy;
+    }
+
+    @Scheduled(fixedDelayString = "${review.datasource.replica.health-check-interval-ms:5000}")
+    public void check() {
+        final boolean current = probe();
+        if (current != healthy) {
+            log.warn("복제본 상태 변경 - healthy : {}", current);
+        }
+        healthy = current;
+    }
+
+    private boolean probe() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(2);
+            if (!checkLag) {
+                return connection.isValid(2);
+            }
+            try (ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                resultSet.next();
+                return resultSet.getDouble(1) <= maxLag.toMillis() / 1000.0;
+            }
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package review.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+//읽기/쓰기 DB 분리 설정
+//review.datasource.replica.enabled=true 일 때만 적용, 아니면 기존처럼 spring.datasource 하나만 사용
+//primary : spring.datasource.*, replica : review.datasource.replica.*
+@Configuration
+@ConditionalOnProperty(name = "review.datasource.replica.enabled", havingValue = "true")
+public class ReplicationDataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(
+            @Qualifier("primaryDataSourceProperties") DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("review.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("review.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+        final HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${review.datasource.replica.max-lag:5s}") Duration maxLag,
+            @Value("${review.datasource.replica.check-lag:true}") boolean checkLag) {
+        return new ReplicaHealthMonitor(replicaDataSource, maxLag, checkLag);
+    }
+
+    //JPA, Flyway 등이 실제로 사용하는 DataSource
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaHealthMonitor replicaHealthMonitor,
+            @Value("${review.datasource.replica.read-your-writes-window:5s}") Duration readYourWritesWindow,
+            @Value("${review.datasource.replica.max-lag:5s}") Duration maxLag) {
+
+        //복제본은 max-lag 까지 늦을 수 있으므로 그보다 짧게 primary 로 보내면 자기가 쓴 데이터가 안 보일 수 있음
+        final Duration window = readYourWritesWindow.compareTo(maxLag) < 0 ? maxLag : readYourWritesWindow;
+        final ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(
+                new ReadYourWritesTracker(window), replicaHealthMonitor);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primaryDataSource,
+                DataSourceType.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        //트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 연결을 가져오도록 지연
+        //그래야 @Transactional(readOnly = true) 여부가 정해진 뒤에 라우팅됨
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
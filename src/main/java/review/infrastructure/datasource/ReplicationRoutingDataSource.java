@@ -0,0 +1,52 @@
+package review.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+//트랜잭션 종류에 따라 primary / replica 로 연결을 나눠주는 DataSource
+//@Transactional(readOnly = true) 트랜잭션 -> replica
+//그 외 (쓰기 트랜잭션, 트랜잭션 밖) -> primary
+//단, 방금 쓰기를 한 사용자거나 replica 가 unhealthy 면 읽기도 primary
+//LazyConnectionDataSourceProxy 로 감싸야 readOnly 여부가 정해진 뒤에 연결을 고름
+class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ReplicaHealthMonitor replicaHealthMonitor;
+
+    ReplicationRoutingDataSource(final ReadYourWritesTracker readYourWritesTracker,
+                                 final ReplicaHealthMonitor replicaHealthMonitor) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.replicaHealthMonitor = replicaHealthMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return DataSourceType.PRIMARY;
+        }
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markWriterAfterCommit();
+            return DataSourceType.PRIMARY;
+        }
+
+        if (readYourWritesTracker.isCurrentUserRecentWriter() || !replicaHealthMonitor.isHealthy()) {
+            return DataSourceType.PRIMARY;
+        }
+        return DataSourceType.REPLICA;
+    }
+
+    //쓰기 트랜잭션이 커밋되면 현재 사용자를 최근 작성자로 기록
+    private void markWriterAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.markCurrentUserWrote();
+            }
+        });
+    }
+}
@@ -0,0 +1,16 @@
+package review.infrastructure.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+//UUID 기본키를 시간 순서 UUID(v7)로 생성
+//@GeneratedValue(strategy = GenerationType.UUID) 대신 @Id 옆에 붙여서 사용
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+}
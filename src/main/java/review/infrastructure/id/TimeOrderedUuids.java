@@ -0,0 +1,46 @@
+package review.infrastructure.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+//시간 순서 UUID (UUIDv7, RFC 9562) 생성기
+//앞 48bit 가 밀리초 시각이라 나중에 만든 id 가 항상 더 크다.
+//랜덤 UUID(v4)는 INSERT 마다 PK B-tree 의 아무 leaf 에나 들어가서 page split, 캐시 miss 가 계속 생기지만
+//v7 은 항상 인덱스 오른쪽 끝에 붙으므로 최근 leaf 몇 개만 메모리에 있으면 됨
+//
+//구성 : unix_ts_ms(48) | ver=7(4) | counter(12) | var=10(2) | random(62)
+//같은 밀리초 안에서는 12bit counter 를 1씩 올리고, 4096개를 넘으면 다음 밀리초를 미리 당겨 쓴다.
+//(시각 + counter) 를 AtomicLong 하나로 CAS 하므로 여러 스레드가 동시에 만들어도 서버 안에서는 단조 증가
+//시계가 뒤로 가도 마지막 값보다 작은 id 는 만들지 않음
+public final class TimeOrderedUuids {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    //마지막으로 사용한 (밀리초 << 12 | counter)
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private TimeOrderedUuids() {
+    }
+
+    public static UUID next() {
+        final long now = System.currentTimeMillis() << COUNTER_BITS;
+        long prev;
+        long next;
+        do {
+            prev = LAST.get();
+            next = Math.max(prev + 1, now);
+        } while (!LAST.compareAndSet(prev, next));
+
+        final long millis = next >>> COUNTER_BITS;
+        final long counter = next & ((1L << COUNTER_BITS) - 1);
+
+        final long mostSigBits = (millis << 16) | VERSION_7 | counter;
+        //id 는 URL 에 노출될 뿐 비밀값이 아니므로 SecureRandom 대신 ThreadLocalRandom 사용 (경합 없음)
+        final long leastSigBits = (ThreadLocalRandom.current().nextLong() & RANDOM_MASK) | VARIANT;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -3,8 +3,14 @@ package review.infrastructure.jpa;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import review.domain.repository.vo.ModeratedReview;
 import review.domain.repository.vo.Review;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 //JpaRepository<Review, UUID>를 상속받았기 때문에
@@ -17,9 +23,67 @@ import java.util.UUID;
 public interface ReviewJpaRepository extends JpaRepository<Review, UUID> {
 
     //save와 findById 빼고 다 구현
-    boolean existsByOrderHistoryId(UUID orderHistoryId);
+
+    //중복 리뷰 확인 - 삭제된 리뷰도 포함 (주문당 리뷰 하나 유니크 인덱스는 삭제된 리뷰도 포함하기 때문)
+    //보관 테이블로 옮겨진 리뷰의 주문도 다시 리뷰할 수 없으므로 p_review_archive 도 확인
+    //엔티티의 is_deleted = false 조건이 붙지 않도록 native query 사용
+    @Query(value = """
+            SELECT EXISTS (SELECT 1 FROM p_review WHERE order_history_id = :orderHistoryId)
+                OR EXISTS (SELECT 1 FROM p_review_archive WHERE order_history_id = :orderHistoryId)
+            """, nativeQuery = true)
+    boolean existsByOrderHistoryIdIncludingDeleted(@Param("orderHistoryId") UUID orderHistoryId);
+
+    @Query(value = """
+            SELECT order_history_id FROM p_review WHERE order_history_id IN (:orderHistoryIds)
+            UNION
+            SELECT order_history_id FROM p_review_archive WHERE order_history_id IN (:orderHistoryIds)
+            """, nativeQuery = true)
+    List<UUID> findOrderHistoryIdsIncludingDeleted(@Param("orderHistoryIds") Collection<UUID> orderHistoryIds);
 
     Page<Review> findAllByStoreId(UUID storeId, Pageable pageable);
 
     Page<Review> findAllByUserId(Long userId, Pageable pageable);
-}
\ No newline at end of file
+
+    //모더레이션 일괄 삭제 - 조건에 맞는 삭제 안 된 리뷰를 최대 limit 개 삭제 처리하고 삭제된 리뷰 정보 반환
+    //UPDATE 한 번으로 처리 (엔티티를 읽어서 dirty checking 하지 않음)
+    //store_id 도 같이 조인해서 파티션 테이블에서도 해당 파티션만 수정
+    @Query(value = """
+            WITH target AS (
+                SELECT review_id, store_id FROM p_review
+                WHERE user_id = :userId AND is_deleted = false
+                LIMIT :limit
+                FOR UPDATE)
+            UPDATE p_review r SET is_deleted = true, deleted_at = now()
+            FROM target
+            WHERE r.review_id = target.review_id AND r.store_id = target.store_id
+            RETURNING r.review_id AS "reviewId", r.store_id AS "storeId", r.user_id AS "userId", r.rating AS "rating",
+                      r.review_time AS "reviewTime"
+            """, nativeQuery = true)
+    List<ModeratedReview> softDeleteByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Query(value = """
+            WITH target AS (
+                SELECT review_id, store_id FROM p_review
+                WHERE store_id = :storeId AND is_deleted = false
+                  AND created_at >= :from AND created_at < :to
+                LIMIT :limit
+                FOR UPDATE)
+            UPDATE p_review r SET is_deleted = true, deleted_at = now()
+            FROM target
+            WHERE r.review_id = target.review_id AND r.store_id = target.store_id
+            RETURNING r.review_id AS "reviewId", r.store_id AS "storeId", r.user_id AS "userId", r.rating AS "rating",
+                      r.review_time AS "reviewTime"
+            """, nativeQuery = true)
+    List<ModeratedReview> softDeleteByStoreIdAndCreatedAt(@Param("storeId") UUID storeId,
+                                                          @Param("from") LocalDateTime from,
+                                                          @Param("to") LocalDateTime to,
+                                                          @Param("limit") int limit);
+
+    @Query(value = """
+            UPDATE p_review SET is_deleted = true, deleted_at = now()
+            WHERE review_id IN (:reviewIds) AND is_deleted = false
+            RETURNING review_id AS "reviewId", store_id AS "storeId", user_id AS "userId", rating AS "rating",
+                      review_time AS "reviewTime"
+            """, nativeQuery = true)
+    List<ModeratedReview> softDeleteByIds(@Param("reviewIds") Collection<UUID> reviewIds);
+}
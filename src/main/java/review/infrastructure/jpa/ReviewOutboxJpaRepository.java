@@ -0,0 +1,72 @@
+package review.infrastructure.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import review.domain.repository.vo.ReviewOutboxEvent;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+//리뷰 이벤트 아웃박스 실제 jpa 실행
+public interface ReviewOutboxJpaRepository extends JpaRepository<ReviewOutboxEvent, Long> {
+
+    //트랜잭션 단위 advisory lock - 커밋/롤백 시 자동 해제
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('p_review_outbox_dispatcher'))",
+            nativeQuery = true)
+    boolean tryLockDispatcher();
+
+    //가게마다 commit_seq 순으로 번갈아 가며 꺼냄 (가게별 1번째들, 2번째들, ...)
+    //어느 가게든 꺼낸 이벤트보다 앞선 이벤트는 모두 같이 꺼내지므로 LIMIT 에 잘려도 순서가 뒤집히지 않음
+    //txid < pg_snapshot_xmin : 진행 중인 트랜잭션보다 먼저 시작해 이미 끝난 트랜잭션의 이벤트만 꺼냄
+    //-> 아직 커밋되지 않은 트랜잭션이 더 작은 commit_seq 를 들고 나중에 나타나는 경우를 줄임
+    //   (오래 걸리는 트랜잭션이 있으면 그동안 전달이 늦어짐)
+    //같은 가게에서 앞선 이벤트가 재시도 대기 중이거나 아직 xmin 을 넘지 못했으면 뒤 이벤트도 기다림
+    @Query(value = """
+            WITH watermark AS (
+                SELECT pg_snapshot_xmin(pg_current_snapshot()) AS xmin),
+            ranked AS (
+                SELECT o.review_outbox_id,
+                       row_number() OVER (PARTITION BY o.store_id ORDER BY o.commit_seq) AS store_rank
+                FROM p_review_outbox o, watermark w
+                WHERE o.next_attempt_at <= now()
+                  AND o.txid < w.xmin
+                  AND NOT EXISTS (
+                      SELECT 1 FROM p_review_outbox b
+                      WHERE b.store_id = o.store_id
+                        AND b.commit_seq < o.commit_seq
+                        AND (b.next_attempt_at > now() OR b.txid >= w.xmin)))
+            SELECT o.review_outbox_id, o.event_type, o.store_id, o.review_id, o.payload, o.created_at,
+                   o.attempts, o.next_attempt_at, o.commit_seq
+            FROM p_review_outbox o
+            JOIN ranked r ON r.review_outbox_id = o.review_outbox_id
+            ORDER BY r.store_rank, o.commit_seq
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ReviewOutboxEvent> findDispatchable(@Param("limit") int limit);
+
+    @Modifying
+    @Query("update ReviewOutboxEvent e set e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt "
+            + "where e.id in :ids")
+    void markRetry(@Param("ids") Collection<Long> ids, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    //아웃박스에서 지우면서 같은 값을 dead letter 테이블에 INSERT (한 문장이라 둘 중 하나만 반영되지 않음)
+    @Modifying
+    @Query(value = """
+            WITH moved AS (
+                DELETE FROM p_review_outbox WHERE review_outbox_id = :id
+                RETURNING review_outbox_id, event_type, store_id, review_id, payload, created_at, attempts, commit_seq)
+            INSERT INTO p_review_outbox_dead_letter (review_outbox_id, event_type, store_id, review_id, payload,
+                                                     created_at, attempts, commit_seq, error, failed_at)
+            SELECT review_outbox_id, event_type, store_id, review_id, payload,
+                   created_at, attempts, commit_seq, :error, now()
+            FROM moved
+            """, nativeQuery = true)
+    void moveToDeadLetter(@Param("id") Long id, @Param("error") String error);
+
+    //id 는 서버마다 미리 받은 범위라 생성 순서와 다를 수 있으므로 created_at 으로 계산
+    @Query(value = "SELECT MIN(created_at) FROM p_review_outbox", nativeQuery = true)
+    LocalDateTime findOldestCreatedAt();
+}
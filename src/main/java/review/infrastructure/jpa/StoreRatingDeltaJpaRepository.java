@@ -0,0 +1,50 @@
+package review.infrastructure.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import review.domain.repository.vo.StoreRatingDelta;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+//가게 평점 변경분 저널 실제 jpa 실행
+public interface StoreRatingDeltaJpaRepository extends JpaRepository<StoreRatingDelta, UUID> {
+
+    //가게의 변경분을 지우고, 이 트랜잭션이 실제로 지운 row 의 합계만 반환 (row 가 없으면 모두 0)
+    //다른 서버의 flush 가 잠근 row 는 SKIP LOCKED 로 건너뛰므로 같은 row 를 두 서버가 반영하지 않음
+    @Query(value = """
+            WITH claimed AS (
+                DELETE FROM p_store_rating_delta
+                WHERE store_rating_delta_id IN (
+                    SELECT store_rating_delta_id FROM p_store_rating_delta
+                    WHERE store_id = :storeId
+                    FOR UPDATE SKIP LOCKED)
+                RETURNING star_1, star_2, star_3, star_4, star_5)
+            SELECT COALESCE(SUM(star_1), 0)::bigint AS "star1",
+                   COALESCE(SUM(star_2), 0)::bigint AS "star2",
+                   COALESCE(SUM(star_3), 0)::bigint AS "star3",
+                   COALESCE(SUM(star_4), 0)::bigint AS "star4",
+                   COALESCE(SUM(star_5), 0)::bigint AS "star5"
+            FROM claimed
+            """, nativeQuery = true)
+    ClaimedStarDeltas claimByStoreId(@Param("storeId") UUID storeId);
+
+    @Query("select distinct d.storeId from StoreRatingDelta d where d.createdAt < :before")
+    List<UUID> findStoreIdsRecordedBefore(@Param("before") LocalDateTime before);
+
+    //claimByStoreId 결과 (별점별 변화량 합계)
+    interface ClaimedStarDeltas {
+
+        Long getStar1();
+
+        Long getStar2();
+
+        Long getStar3();
+
+        Long getStar4();
+
+        Long getStar5();
+    }
+}
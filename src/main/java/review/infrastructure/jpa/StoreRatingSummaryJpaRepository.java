@@ -0,0 +1,33 @@
+package review.infrastructure.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import review.domain.repository.vo.StoreRatingSummary;
+
+import java.util.UUID;
+
+//가게별 별점 분포 실제 jpa 실행
+public interface StoreRatingSummaryJpaRepository extends JpaRepository<StoreRatingSummary, UUID> {
+
+    //조회 후 더티 체킹 대신 한 문장으로 더함 -> 처음 반영하는 가게를 두 서버가 동시에 INSERT 해도 충돌하지 않음
+    @Modifying
+    @Query(value = """
+            INSERT INTO p_store_rating_summary (store_id, star_1, star_2, star_3, star_4, star_5, updated_at)
+            VALUES (:storeId, :star1, :star2, :star3, :star4, :star5, now())
+            ON CONFLICT (store_id) DO UPDATE SET
+                star_1 = p_store_rating_summary.star_1 + EXCLUDED.star_1,
+                star_2 = p_store_rating_summary.star_2 + EXCLUDED.star_2,
+                star_3 = p_store_rating_summary.star_3 + EXCLUDED.star_3,
+                star_4 = p_store_rating_summary.star_4 + EXCLUDED.star_4,
+                star_5 = p_store_rating_summary.star_5 + EXCLUDED.star_5,
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void addStarCounts(@Param("storeId") UUID storeId,
+                       @Param("star1") long star1,
+                       @Param("star2") long star2,
+                       @Param("star3") long star3,
+                       @Param("star4") long star4,
+                       @Param("star5") long star5);
+}
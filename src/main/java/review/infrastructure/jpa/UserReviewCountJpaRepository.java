@@ -0,0 +1,22 @@
+package review.infrastructure.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import review.domain.repository.vo.UserReviewCount;
+
+//유저별 리뷰 개수 실제 jpa 실행
+public interface UserReviewCountJpaRepository extends JpaRepository<UserReviewCount, Long> {
+
+    //조회 후 더티 체킹 대신 한 문장으로 더함 -> 처음 리뷰를 쓰는 유저의 row 도 충돌 없이 생성
+    @Modifying
+    @Query(value = """
+            INSERT INTO p_user_review_count (user_id, review_count, updated_at)
+            VALUES (:userId, :delta, now())
+            ON CONFLICT (user_id) DO UPDATE SET
+                review_count = p_user_review_count.review_count + EXCLUDED.review_count,
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void addCount(@Param("userId") Long userId, @Param("delta") long delta);
+}
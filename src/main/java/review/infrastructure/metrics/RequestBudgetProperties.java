@@ -0,0 +1,48 @@
+package review.infrastructure.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+//엔드포인트별 SQL 개수, 응답 시간 예산 (review.perf)
+//키는 "GET /reviews/{reviewId}" 처럼 메소드 + URL 패턴 (yml 에서는 "[GET /reviews/{reviewId}]")
+//예산을 넘으면 SqlMetricsInterceptor 가 경고 로그와 review.http.budget.exceeded 지표를 남긴다.
+@Getter
+@Setter
+@ConfigurationProperties("review.perf")
+public class RequestBudgetProperties {
+
+    private Map<String, Budget> budgets = new HashMap<>();
+
+    private ExplainCheck explainCheck = new ExplainCheck();
+
+    public Budget find(final String method, final String uri) {
+        return budgets.get(method + " " + uri);
+    }
+
+    @Getter
+    @Setter
+    public static class Budget {
+
+        //요청 한 번에 허용하는 최대 SQL 개수 (0 이하면 검사 안 함)
+        private int maxStatements;
+
+        //허용하는 최대 응답 시간 (없으면 검사 안 함)
+        private Duration maxLatency;
+    }
+
+    //시작 시 주요 조회 쿼리 EXPLAIN 검사 (ReviewQueryPlanVerifier)
+    @Getter
+    @Setter
+    public static class ExplainCheck {
+
+        private boolean enabled = false;
+
+        //p_review Seq Scan 이 있으면 애플리케이션 시작을 실패시킴 (false 면 경고 로그만)
+        private boolean failOnSeqScan = true;
+    }
+}
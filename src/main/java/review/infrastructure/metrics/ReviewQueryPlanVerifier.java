@@ -0,0 +1,158 @@
+package review.infrastructure.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+//주요 리뷰 조회 쿼리 실행 계획 검사 (review.perf.explain-check.enabled)
+//엔티티 매핑이나 인덱스가 바뀌어서 p_review 를 Seq Scan 하게 되면 시작 시점에 알 수 있도록 함
+//데이터가 적으면 인덱스가 있어도 플래너가 Seq Scan 을 고르므로 실제 규모의 데이터가 있는 DB 에서만 켤 것
+//p_review 가 store_id 해시 파티션 테이블이면 가게 조회가 해시 파티션 하나만 읽는지(partition pruning)도 확인
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewQueryPlanVerifier {
+
+    private static final String REVIEW_TABLE = "p_review";
+
+    //p_review 자신, 해시 파티션(p_review_p00), 시간 하위 파티션(p_review_p00_2025_01, p_review_p00_default)
+    //group(1) 은 해시 파티션 이름
+    private static final Pattern REVIEW_RELATION = Pattern.compile("^p_review$|^(p_review_p\\d{2})(_.+)?$");
+
+    //ReviewRepositoryImpl 의 QueryDSL 쿼리와 같은 조건, 정렬
+    private static final Map<String, String> QUERIES = new LinkedHashMap<>();
+
+    static {
+        QUERIES.put("findResponseById",
+                "SELECT * FROM p_review WHERE review_id = :reviewId AND is_deleted = false");
+        QUERIES.put("existsByOrderHistoryId",
+                "SELECT 1 FROM p_review WHERE order_history_id = :orderHistoryId LIMIT 1");
+        QUERIES.put("findResponsesByStoreId(NEWEST)",
+                "SELECT * FROM p_review WHERE store_id = :storeId AND is_deleted = false "
+                        + "ORDER BY created_at DESC, review_id DESC LIMIT 20");
+        QUERIES.put("findResponsesByStoreId(HIGHEST_RATING)",
+                "SELECT * FROM p_review WHERE store_id = :storeId AND is_deleted = false "
+                        + "ORDER BY rating DESC, review_id DESC LIMIT 20");
+        QUERIES.put("findResponsesByUserId(NEWEST)",
+                "SELECT * FROM p_review WHERE user_id = :userId AND is_deleted = false "
+                        + "ORDER BY created_at DESC, review_id DESC LIMIT 20");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final RequestBudgetProperties requestBudgetProperties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() {
+        final RequestBudgetProperties.ExplainCheck check = requestBudgetProperties.getExplainCheck();
+        if (!check.isEnabled()) {
+            return;
+        }
+
+        final Map<String, Object> sample;
+        try {
+            sample = jdbcTemplate.queryForMap("SELECT review_id, order_history_id, store_id, user_id "
+                    + "FROM p_review WHERE is_deleted = false LIMIT 1");
+        } catch (EmptyResultDataAccessException e) {
+            log.warn("리뷰 데이터가 없어 실행 계획 검사를 건너뜀");
+            return;
+        }
+
+        final List<String> problems = new ArrayList<>();
+        QUERIES.forEach((name, sql) -> {
+            final JsonNode plan = explain(bind(sql, sample));
+            if (hasSeqScan(plan)) {
+                problems.add(name + " : Seq Scan");
+            }
+
+            final Set<String> hashPartitions = new HashSet<>();
+            collectHashPartitions(plan, hashPartitions);
+            if (sql.contains(":storeId") && hashPartitions.size() > 1) {
+                problems.add(name + " : 해시 파티션 " + hashPartitions.size() + " 개 조회");
+            }
+        });
+
+        if (problems.isEmpty()) {
+            log.info("리뷰 조회 쿼리 실행 계획 검사 통과 - {} 개", QUERIES.size());
+            return;
+        }
+        final String message = String.format("%s 조회 쿼리 실행 계획에 문제가 있습니다 : %s", REVIEW_TABLE, problems);
+        if (check.isFailOnSeqScan()) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+
+    //EXPLAIN 은 바인드 파라미터 없이 실행해야 generic plan 이 아닌 실제 값 기준 계획이 나옴
+    private String bind(final String sql, final Map<String, Object> sample) {
+        return sql.replace(":reviewId", literal(sample.get("review_id")))
+                .replace(":orderHistoryId", literal(sample.get("order_history_id")))
+                .replace(":storeId", literal(sample.get("store_id")))
+                .replace(":userId", literal(sample.get("user_id")));
+    }
+
+    private String literal(final Object value) {
+        return value instanceof Number ? value.toString() : "'" + value + "'";
+    }
+
+    private JsonNode explain(final String sql) {
+        try {
+            return objectMapper.readTree(jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class));
+        } catch (Exception e) {
+            throw new IllegalStateException("실행 계획 조회 실패 : " + sql, e);
+        }
+    }
+
+    //계획 트리 전체에서 p_review (또는 그 파티션) 에 대한 Seq Scan 노드를 찾음
+    private boolean hasSeqScan(final JsonNode node) {
+        if (node.isArray()) {
+            for (JsonNode child : node) {
+                if (hasSeqScan(child)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if ("Seq Scan".equals(node.path("Node Type").asText())
+                && REVIEW_RELATION.matcher(node.path("Relation Name").asText()).matches()) {
+            return true;
+        }
+        if (node.has("Plan") && hasSeqScan(node.get("Plan"))) {
+            return true;
+        }
+        return node.has("Plans") && hasSeqScan(node.get("Plans"));
+    }
+
+    //계획 트리에서 읽는 해시 파티션 이름을 모음 (시간 하위 파티션은 속한 해시 파티션으로 셈)
+    private void collectHashPartitions(final JsonNode node, final Set<String> hashPartitions) {
+        if (node.isArray()) {
+            node.forEach(child -> collectHashPartitions(child, hashPartitions));
+            return;
+        }
+        final Matcher matcher = REVIEW_RELATION.matcher(node.path("Relation Name").asText());
+        if (matcher.matches() && matcher.group(1) != null) {
+            hashPartitions.add(matcher.group(1));
+        }
+        if (node.has("Plan")) {
+            collectHashPartitions(node.get("Plan"), hashPartitions);
+        }
+        if (node.has("Plans")) {
+            collectHashPartitions(node.get("Plans"), hashPartitions);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package review.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+//요청마다 실행된 SQL 개수, SQL 실행 시간을 엔드포인트별 지표로 기록
+//review.http.sql.statements 의 max 나 p99 가 갑자기 늘어나면 N+1 이 생긴 것
+//review.perf.budgets 에 예산이 있는 엔드포인트는 SQL 개수, 응답 시간이 예산을 넘는지도 검사
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String START_NANOS_ATTRIBUTE = SqlMetricsInterceptor.class.getName() + ".startNanos";
+
+    private final MeterRegistry meterRegistry;
+    private final RequestBudgetProperties requestBudgetProperties;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(START_NANOS_ATTRIBUTE, System.nanoTime());
+        SqlStatementListener.begin();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        final SqlStatementListener.SqlStatistics statistics = SqlStatementListener.end();
+        if (statistics == null) {
+            return;
+        }
+
+        //실제 URL이 아니라 /reviews/{reviewId} 같은 패턴으로 태그를 달아야 지표 개수가 폭증하지 않음
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        final String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        final String method = request.getMethod();
+
+        DistributionSummary.builder("review.http.sql.statements")
+                .description("요청 한 번에 실행된 SQL 개수")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.count());
+
+        Timer.builder("review.http.sql.time")
+                .description("요청 한 번에 SQL 실행에 쓴 시간")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.elapsedNanos(), TimeUnit.NANOSECONDS);
+
+        checkBudget(request, method, uri, statistics.count());
+    }
+
+    //예산 초과는 요청을 실패시키지 않고 기록만 함
+    //부하 테스트, 배포 후 review.http.budget.exceeded 가 0 이 아니면 회귀가 생긴 것
+    private void checkBudget(final HttpServletRequest request, final String method, final String uri,
+                             final int statementCount) {
+        final RequestBudgetProperties.Budget budget = requestBudgetProperties.find(method, uri);
+        if (budget == null) {
+            return;
+        }
+
+        if (budget.getMaxStatements() > 0 && statementCount > budget.getMaxStatements()) {
+            exceeded(method, uri, "statements");
+            log.warn("SQL 개수 예산 초과 - {} {} : {} 개 (예산 {} 개)",
+                    method, uri, statementCount, budget.getMaxStatements());
+        }
+
+        final Object startNanos = request.getAttribute(START_NANOS_ATTRIBUTE);
+        if (budget.getMaxLatency() != null && startNanos instanceof Long start) {
+            final Duration latency = Duration.ofNanos(System.nanoTime() - start);
+            if (latency.compareTo(budget.getMaxLatency()) > 0) {
+                exceeded(method, uri, "latency");
+                log.warn("응답 시간 예산 초과 - {} {} : {} ms (예산 {} ms)",
+                        method, uri, latency.toMillis(), budget.getMaxLatency().toMillis());
+            }
+        }
+    }
+
+    private void exceeded(final String method, final String uri, final String kind) {
+        meterRegistry.counter("review.http.budget.exceeded", "method", method, "uri", uri, "kind", kind)
+                .increment();
+    }
+}
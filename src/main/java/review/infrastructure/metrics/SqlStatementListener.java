@@ -0,0 +1,58 @@
+package review.infrastructure.metrics;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+//p6spy 이벤트 리스너 - SQL이 실행될 때마다 현재 요청의 SQL 개수, 실행 시간을 누적
+//p6spy-spring-boot-starter가 JdbcEventListener 빈을 자동으로 등록해줌
+//요청 시작/종료는 SqlMetricsInterceptor가 담당
+@Component
+public class SqlStatementListener extends JdbcEventListener {
+
+    //요청 하나 = 톰캣(가상) 스레드 하나 이므로 스레드별로 누적
+    //createReview 사전 검증(ReviewCreateLookup)처럼 요청 중에 만든 가상 스레드도 같은 값을 물려받아 함께 셈
+    private static final InheritableThreadLocal<SqlStatistics> CURRENT = new InheritableThreadLocal<>();
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos,
+                                  SQLException e) {
+        final SqlStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.add(timeElapsedNanos);
+        }
+    }
+
+    static void begin() {
+        CURRENT.set(new SqlStatistics());
+    }
+
+    static SqlStatistics end() {
+        final SqlStatistics statistics = CURRENT.get();
+        CURRENT.remove();
+        return statistics;
+    }
+
+    //요청 하나 동안 실행된 SQL 개수와 전체 실행 시간
+    //여러 스레드에서 동시에 더할 수 있으므로 synchronized
+    static final class SqlStatistics {
+
+        private int count;
+        private long elapsedNanos;
+
+        private synchronized void add(final long nanos) {
+            count++;
+            elapsedNanos += nanos;
+        }
+
+        synchronized int count() {
+            return count;
+        }
+
+        synchronized long elapsedNanos() {
+            return elapsedNanos;
+        }
+    }
+}
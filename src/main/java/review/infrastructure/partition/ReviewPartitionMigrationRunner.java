@@ -0,0 +1,63 @@
+package review.infrastructure.partition;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+//리뷰 파티션 이전을 서비스와 별도 프로세스로 한 단계씩 실행하고 종료
+//java -jar review.jar --spring.main.web-application-type=none --review.partition.migration.step=prepare
+//단계 : prepare -> copy -> verify -> cutover (copy 까지 한 번에 하려면 all)
+//       time-partitions : 시간 하위 파티션을 쓸 때 앞으로의 월 파티션을 미리 생성 (주기적으로 실행)
+//단계를 지정하면 @Scheduled 작업은 꺼짐 (SchedulingConfig)
+//ApplicationReadyEvent 작업(색인/추이 재구축 등)은 이 러너가 끝나고 발생하는데, 러너가 바로 종료하므로 실행되지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty("review.partition.migration.step")
+public class ReviewPartitionMigrationRunner implements ApplicationRunner {
+
+    private final ReviewPartitionMigrator reviewPartitionMigrator;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Value("${review.partition.migration.step}")
+    private String step;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("리뷰 파티션 이전 단계 실행 - {}", step);
+        final boolean success = switch (step) {
+            case "prepare" -> {
+                reviewPartitionMigrator.prepare();
+                yield true;
+            }
+            case "copy" -> {
+                reviewPartitionMigrator.copy();
+                yield reviewPartitionMigrator.verify();
+            }
+            case "all" -> {
+                reviewPartitionMigrator.prepare();
+                reviewPartitionMigrator.copy();
+                yield reviewPartitionMigrator.verify();
+            }
+            case "verify" -> reviewPartitionMigrator.verify();
+            case "cutover" -> {
+                reviewPartitionMigrator.cutover();
+                yield true;
+            }
+            case "time-partitions" -> {
+                reviewPartitionMigrator.createTimePartitions();
+                yield true;
+            }
+            default -> throw new IllegalArgumentException("알 수 없는 파티션 이전 단계 : " + step);
+        };
+
+        //커넥션 풀 등이 남아 있어서 그대로 두면 종료되지 않으므로 직접 종료
+        System.exit(SpringApplication.exit(applicationContext, () -> success ? 0 : 1));
+    }
+}
@@ -0,0 +1,220 @@
+package review.infrastructure.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.UUID;
+
+//p_review 를 store_id 해시 파티션 테이블로 옮기는 도구 (ReviewPartitionMigrationRunner 에서 단계별로 실행)
+//
+//1. prepare : 같은 컬럼의 파티션 테이블(p_review_part) + 인덱스 생성,
+//             p_review 변경을 p_review_part 에 그대로 따라 쓰는 트리거 설치
+//2. copy    : 기존 row 를 review_id 순으로 chunkSize 개씩 복사 (chunk 마다 짧은 트랜잭션)
+//3. verify  : 두 테이블 row 수 비교
+//4. cutover : 이름만 바꿔서 교체 (p_review -> p_review_unpartitioned, p_review_part -> p_review)
+//
+//복사 중에도 서비스는 p_review 를 그대로 읽고 쓴다. 트리거가 INSERT/UPDATE/DELETE 를 따라 쓰고,
+//복사는 이미 있는 row 를 건너뛰므로(ON CONFLICT DO NOTHING) 순서가 어떻게 섞여도 최신 값이 남음
+//복사 중인 chunk 의 row 는 FOR SHARE 로 잡아서, 복사 직전에 지워진 row 가 되살아나지 않게 함
+//
+//파티션 테이블의 PK, UNIQUE 에는 파티션 키가 들어가야 한다.
+//- PK : (review_id, store_id) - review_id 만으로 조회해도 각 파티션 PK 인덱스를 탐색
+//- 주문당 리뷰 하나 : (order_history_id, store_id) - 주문은 가게 하나에 속하므로 기존 제약과 같음
+//- 시간 하위 파티션을 쓰면 created_at 도 들어가야 해서 주문당 리뷰 하나를 DB 가 보장하지 못함
+//  (블룸 필터 + existsByOrderHistoryId 검사에만 의존) -> 기본값은 사용 안 함
+@Slf4j
+@Component
+public class ReviewPartitionMigrator {
+
+    static final String SOURCE_TABLE = "p_review";
+    static final String TARGET_TABLE = "p_review_part";
+    static final String OLD_TABLE = "p_review_unpartitioned";
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int hashPartitions;
+    private final boolean timeSubPartitions;
+    private final YearMonth timePartitionFrom;
+    private final int timePartitionMonthsAhead;
+    private final int chunkSize;
+
+    public ReviewPartitionMigrator(JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${review.partition.hash-partitions:16}") int hashPartitions,
+                                   @Value("${review.partition.time-sub-partitions:false}") boolean timeSubPartitions,
+                                   @Value("${review.partition.time-partition-from:2024-01}") String timePartitionFrom,
+                                   @Value("${review.partition.time-partition-months-ahead:12}") int timePartitionMonthsAhead,
+                                   @Value("${review.partition.copy-chunk-size:5000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.hashPartitions = hashPartitions;
+        this.timeSubPartitions = timeSubPartitions;
+        this.timePartitionFrom = YearMonth.parse(timePartitionFrom);
+        this.timePartitionMonthsAhead = timePartitionMonthsAhead;
+        this.chunkSize = chunkSize;
+    }
+
+    //파티션 번호 -> 이름 (p_review_p00, p_review_p01, ...)
+    //ReviewQueryPlanVerifier 가 이 이름으로 한 쿼리가 몇 개의 해시 파티션을 읽는지 확인함
+    static String hashPartitionName(final int remainder) {
+        return String.format("%s_p%02d", SOURCE_TABLE, remainder);
+    }
+
+    public void prepare() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TARGET_TABLE
+                    + " (LIKE " + SOURCE_TABLE + " INCLUDING DEFAULTS) PARTITION BY HASH (store_id)");
+
+            for (int remainder = 0; remainder < hashPartitions; remainder++) {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + hashPartitionName(remainder)
+                        + " PARTITION OF " + TARGET_TABLE
+                        + " FOR VALUES WITH (MODULUS " + hashPartitions + ", REMAINDER " + remainder + ")"
+                        + (timeSubPartitions ? " PARTITION BY RANGE (created_at)" : ""));
+            }
+            if (timeSubPartitions) {
+                createTimePartitions();
+            }
+
+            createIndexes();
+            installMirrorTrigger();
+        });
+        log.info("리뷰 파티션 테이블 준비 완료 - 해시 파티션 {} 개, 시간 하위 파티션 {}", hashPartitions, timeSubPartitions);
+    }
+
+    //시간 하위 파티션 : 해시 파티션마다 월별 RANGE 파티션 + 범위 밖을 받는 DEFAULT 파티션
+    //운영 중에는 주기적으로 다시 실행해서 앞으로의 월 파티션을 미리 만들어 둔다. (이미 있으면 건너뜀)
+    public void createTimePartitions() {
+        final YearMonth until = YearMonth.now().plusMonths(timePartitionMonthsAhead);
+        for (int remainder = 0; remainder < hashPartitions; remainder++) {
+            final String parent = hashPartitionName(remainder);
+            for (YearMonth month = timePartitionFrom; !month.isAfter(until); month = month.plusMonths(1)) {
+                final LocalDate from = month.atDay(1);
+                final LocalDate to = month.plusMonths(1).atDay(1);
+                jdbcTemplate.execute(String.format(
+                        "CREATE TABLE IF NOT EXISTS %s_%d_%02d PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                        parent, month.getYear(), month.getMonthValue(), parent, from, to));
+            }
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + parent + "_default PARTITION OF " + parent + " DEFAULT");
+        }
+    }
+
+    //부모 테이블에 만들면 모든 파티션에 같은 인덱스가 생김
+    //(비어있는 테이블에 만들므로 CONCURRENTLY 필요 없음, 교체 후에도 이 이름 그대로 사용)
+    private void createIndexes() {
+        final String partitionKey = timeSubPartitions ? "store_id, created_at" : "store_id";
+        jdbcTemplate.execute("DO $$ BEGIN "
+                + "IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'p_review_part_pkey') THEN "
+                + "ALTER TABLE " + TARGET_TABLE + " ADD CONSTRAINT p_review_part_pkey PRIMARY KEY (review_id, " + partitionKey + "); "
+                + "ALTER TABLE " + TARGET_TABLE + " ADD CONSTRAINT uk_review_part_order_history_id UNIQUE (order_history_id, " + partitionKey + "); "
+                + "END IF; END $$");
+
+        //V2, V3, V5 의 부분 인덱스와 같은 구성
+        createIndex("idx_review_part_store_live", "(store_id, created_at DESC, review_id DESC)", "is_deleted = false");
+        createIndex("idx_review_part_user_live", "(user_id, created_at DESC, review_id DESC)", "is_deleted = false");
+        createIndex("idx_review_part_store_rating_live", "(store_id, rating DESC, review_id DESC)", "is_deleted = false");
+        createIndex("idx_review_part_user_rating_live", "(user_id, rating DESC, review_id DESC)", "is_deleted = false");
+        createIndex("idx_review_part_store_review_time_live", "(store_id, review_time) INCLUDE (rating)",
+                "is_deleted = false");
+        createIndex("idx_review_part_deleted_at", "(deleted_at)", "is_deleted = true");
+    }
+
+    //columns : "(컬럼, ...)" 또는 "(컬럼, ...) INCLUDE (컬럼)"
+    private void createIndex(final String name, final String columns, final String where) {
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + name + " ON " + TARGET_TABLE
+                + " " + columns + " WHERE " + where);
+    }
+
+    //p_review 변경을 p_review_part 에 따라 씀 (UPDATE 는 DELETE + INSERT)
+    //복사가 끝나기 전이라 아직 없는 row 의 UPDATE/DELETE 는 DELETE 가 아무것도 안 지우고 넘어감
+    private void installMirrorTrigger() {
+        jdbcTemplate.execute("""
+                CREATE OR REPLACE FUNCTION p_review_mirror() RETURNS trigger AS $$
+                BEGIN
+                    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+                        DELETE FROM p_review_part WHERE review_id = OLD.review_id AND store_id = OLD.store_id;
+                    END IF;
+                    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+                        INSERT INTO p_review_part SELECT NEW.*;
+                    END IF;
+                    RETURN NULL;
+                END $$ LANGUAGE plpgsql
+                """);
+        jdbcTemplate.execute("DROP TRIGGER IF EXISTS p_review_mirror ON " + SOURCE_TABLE);
+        jdbcTemplate.execute("CREATE TRIGGER p_review_mirror AFTER INSERT OR UPDATE OR DELETE ON " + SOURCE_TABLE
+                + " FOR EACH ROW EXECUTE FUNCTION p_review_mirror()");
+    }
+
+    //review_id 순으로 chunkSize 개씩 복사, 중간에 멈춰도 다시 실행하면 이어서 안전하게 진행됨
+    public long copy() {
+        UUID last = MIN_UUID;
+        long copied = 0;
+        while (true) {
+            final UUID from = last;
+            final UUID chunkLast = transactionTemplate.execute(status -> copyChunk(from));
+            if (chunkLast == null) {
+                break;
+            }
+            last = chunkLast;
+            copied += chunkSize;
+            if (copied % (chunkSize * 100L) == 0) {
+                log.info("리뷰 파티션 복사 중 - 약 {} 건, 마지막 review_id {}", copied, last);
+            }
+        }
+        log.info("리뷰 파티션 복사 완료");
+        return copied;
+    }
+
+    //복사한 chunk 의 마지막 review_id, 더 없으면 null
+    private UUID copyChunk(final UUID after) {
+        return jdbcTemplate.query("""
+                WITH batch AS (
+                    SELECT * FROM p_review
+                    WHERE review_id > ?
+                    ORDER BY review_id
+                    LIMIT ?
+                    FOR SHARE),
+                copied AS (
+                    INSERT INTO p_review_part SELECT * FROM batch ON CONFLICT DO NOTHING)
+                SELECT review_id FROM batch ORDER BY review_id DESC LIMIT 1
+                """,
+                rs -> rs.next() ? rs.getObject(1, UUID.class) : null,
+                after, chunkSize);
+    }
+
+    //한 문장 안에서 두 테이블을 세므로 같은 시점 기준 (트리거 덕분에 복사가 끝났다면 항상 같아야 함)
+    public boolean verify() {
+        final Boolean same = jdbcTemplate.query(
+                "SELECT (SELECT count(*) FROM p_review), (SELECT count(*) FROM p_review_part)",
+                rs -> {
+                    rs.next();
+                    log.info("리뷰 파티션 검증 - p_review {} 건, p_review_part {} 건", rs.getLong(1), rs.getLong(2));
+                    return rs.getLong(1) == rs.getLong(2);
+                });
+        return Boolean.TRUE.equals(same);
+    }
+
+    //이름만 바꾸므로 ACCESS EXCLUSIVE lock 은 아주 잠깐만 잡힌다.
+    //lock_timeout : 오래 실행 중인 트랜잭션 때문에 lock 을 못 얻으면 기다리지 않고 실패 -> 나중에 다시 실행
+    //기존 테이블은 p_review_unpartitioned 로 남겨두고 확인 후 직접 삭제
+    public void cutover() {
+        if (!verify()) {
+            throw new IllegalStateException("p_review 와 p_review_part 의 row 수가 다릅니다. copy 를 다시 실행하세요.");
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("SET LOCAL lock_timeout = '3s'");
+            jdbcTemplate.execute("LOCK TABLE " + SOURCE_TABLE + " IN ACCESS EXCLUSIVE MODE");
+            jdbcTemplate.execute("DROP TRIGGER p_review_mirror ON " + SOURCE_TABLE);
+            jdbcTemplate.execute("DROP FUNCTION p_review_mirror()");
+            jdbcTemplate.execute("ALTER TABLE " + SOURCE_TABLE + " RENAME TO " + OLD_TABLE);
+            jdbcTemplate.execute("ALTER TABLE " + TARGET_TABLE + " RENAME TO " + SOURCE_TABLE);
+        });
+        log.info("리뷰 파티션 테이블 교체 완료 - 기존 테이블 : {}", OLD_TABLE);
+    }
+}
@@ -0,0 +1,58 @@
+package review.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import review.domain.repository.ReviewOutboxRepository;
+import review.domain.repository.vo.ReviewOutboxEvent;
+import review.infrastructure.jpa.ReviewOutboxJpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ReviewOutboxRepositoryImpl implements ReviewOutboxRepository {
+
+    private final ReviewOutboxJpaRepository jpaRepository;
+
+    @Override
+    public ReviewOutboxEvent save(ReviewOutboxEvent event) {
+        return jpaRepository.save(event);
+    }
+
+    @Override
+    public void flush() {
+        jpaRepository.flush();
+    }
+
+    @Override
+    public boolean tryLockDispatcher() {
+        return jpaRepository.tryLockDispatcher();
+    }
+
+    @Override
+    public List<ReviewOutboxEvent> findDispatchable(int limit) {
+        return jpaRepository.findDispatchable(limit);
+    }
+
+    @Override
+    public void deleteAllByIdIn(Collection<Long> ids) {
+        jpaRepository.deleteAllByIdInBatch(ids);
+    }
+
+    @Override
+    public void markRetry(Collection<Long> ids, LocalDateTime nextAttemptAt) {
+        jpaRepository.markRetry(ids, nextAttemptAt);
+    }
+
+    @Override
+    public void moveToDeadLetter(Long id, String error) {
+        jpaRepository.moveToDeadLetter(id, error);
+    }
+
+    @Override
+    public LocalDateTime findOldestCreatedAt() {
+        return jpaRepository.findOldestCreatedAt();
+    }
+}
@@ -1,15 +1,46 @@
 package review.infrastructure.repository;
 
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
+import review.application.dto.response.ReviewResponse;
 import review.domain.repository.ReviewRepository;
+import review.domain.repository.vo.ModeratedReview;
+import review.domain.repository.vo.OrderHistory;
 import review.domain.repository.vo.Review;
+import review.domain.repository.vo.ReviewCursor;
+import review.domain.repository.vo.ReviewRatingPoint;
+import review.domain.repository.vo.ReviewSearchDocument;
 import review.infrastructure.jpa.ReviewJpaRepository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static review.domain.repository.vo.QOrderHistory.orderHistory;
+import static review.domain.repository.vo.QReview.review;
+import static review.domain.repository.vo.QUser.user;
 
 @Repository
 @RequiredArgsConstructor
@@ -22,15 +53,50 @@ import java.util.UUID;
 public class ReviewRepositoryImpl implements ReviewRepository {
 
     private final ReviewJpaRepository jpaRepository;
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+
+    //IN 절에 한 번에 넣는 id 개수 (PostgreSQL 바인딩 파라미터 개수 제한 대비)
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    //보관(archive) INSERT 에 쓰는 p_review 컬럼 목록, 처음 보관할 때 읽음
+    private volatile String reviewColumns;
 
     @Override
     public Review save(Review review) {
         return jpaRepository.save(review);
     }
 
+    @Override
+    public Review saveAndFlush(Review review) {
+        return jpaRepository.saveAndFlush(review);
+    }
+
+    @Override
+    public List<Review> saveAllAndClear(List<Review> reviews) {
+        final List<Review> saved = jpaRepository.saveAll(reviews);
+        //id는 UUID로 애플리케이션에서 생성하므로(IDENTITY 아님) INSERT가 batch로 묶여서 나감
+        entityManager.flush();
+        entityManager.clear();
+        return saved;
+    }
+
     @Override
     public boolean existsByOrderHistoryId(UUID orderHistoryId) {
-        return jpaRepository.existsByOrderHistoryId(orderHistoryId);
+        return jpaRepository.existsByOrderHistoryIdIncludingDeleted(orderHistoryId);
+    }
+
+    @Override
+    public Set<UUID> findReviewedOrderHistoryIds(Collection<UUID> orderHistoryIds) {
+        return new HashSet<>(fetchInChunks(orderHistoryIds, jpaRepository::findOrderHistoryIdsIncludingDeleted));
+    }
+
+    @Override
+    public List<OrderHistory> findOrderHistoriesByIds(Collection<UUID> orderHistoryIds) {
+        return fetchInChunks(orderHistoryIds, ids -> queryFactory
+                .selectFrom(orderHistory)
+                .where(orderHistory.id.in(ids))
+                .fetch());
     }
 
     @Override
@@ -48,4 +114,297 @@ public class ReviewRepositoryImpl implements ReviewRepository {
         return jpaRepository.findAllByUserId(userId, pageable);
     }
 
-}
\ No newline at end of file
+    @Override
+    public List<Review> findAllByStoreIdAfterCursor(UUID storeId, ReviewCursor cursor, int limit,
+                                                    boolean isAsc) {
+        //user를 fetch join 해서 ReviewResponse.of 에서 닉네임 조회 시 추가 쿼리가 나가지 않게 함
+        return queryFactory.selectFrom(review)
+                .join(review.user, user).fetchJoin()
+                .where(review.storeId.eq(storeId), afterCursor(cursor, isAsc))
+                .orderBy(cursorOrder(isAsc))
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Review> findAllByUserIdAfterCursor(Long userId, ReviewCursor cursor, int limit,
+                                                   boolean isAsc) {
+        return queryFactory.selectFrom(review)
+                .join(review.user, user).fetchJoin()
+                .where(review.user.id.eq(userId), afterCursor(cursor, isAsc))
+                .orderBy(cursorOrder(isAsc))
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Optional<ReviewResponse> findResponseById(UUID reviewId) {
+        return Optional.ofNullable(queryFactory.select(reviewResponse())
+                .from(review)
+                .join(review.user, user)
+                .where(review.id.eq(reviewId))
+                .fetchOne());
+    }
+
+    @Override
+    public Page<ReviewResponse> findResponsesByStoreId(UUID storeId, Pageable pageable) {
+        return findResponses(review.storeId.eq(storeId), pageable);
+    }
+
+    @Override
+    public Page<ReviewResponse> findResponsesByUserId(Long userId, Pageable pageable) {
+        return findResponses(review.user.id.eq(userId), pageable);
+    }
+
+    @Override
+    public Slice<ReviewResponse> findResponseSliceByStoreId(UUID storeId, Pageable pageable) {
+        return findResponseSlice(review.storeId.eq(storeId), pageable);
+    }
+
+    @Override
+    public Slice<ReviewResponse> findResponseSliceByUserId(Long userId, Pageable pageable) {
+        return findResponseSlice(review.user.id.eq(userId), pageable);
+    }
+
+    @Override
+    public Stream<ReviewResponse> streamResponsesByStoreId(UUID storeId, int fetchSize) {
+        final AtomicLong readCount = new AtomicLong();
+
+        return queryFactory.select(reviewResponse())
+                .from(review)
+                .join(review.user, user)
+                .where(review.storeId.eq(storeId))
+                .orderBy(review.createdAt.asc(), review.id.asc())
+                //PostgreSQL은 fetch size를 지정해야 결과 전체를 한 번에 받지 않고 커서로 나눠 받음
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream()
+                //projection 이라 엔티티가 쌓이지는 않지만, 조인 대상이 올라오는 경우를 대비해 주기적으로 비움
+                .peek(row -> {
+                    if (readCount.incrementAndGet() % fetchSize == 0) {
+                        entityManager.clear();
+                    }
+                });
+    }
+
+    @Override
+    public List<ReviewResponse> findResponsesByIds(Collection<UUID> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory.select(reviewResponse())
+                .from(review)
+                .join(review.user, user)
+                .where(review.id.in(reviewIds))
+                .fetch();
+    }
+
+    @Override
+    public Stream<ReviewSearchDocument> streamSearchDocuments(int fetchSize) {
+        return queryFactory.select(Projections.constructor(ReviewSearchDocument.class,
+                        review.id, review.storeId, review.content.value))
+                .from(review)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    //삭제된 지 오래된 리뷰를 보관 테이블로 이동 (DELETE ... RETURNING 결과를 그대로 INSERT)
+    //양쪽 모두 컬럼 이름을 나열해서 컬럼 순서가 달라도 같은 컬럼에 들어감
+    //보관 테이블에 없는 컬럼이 p_review 에 추가되면 INSERT 가 실패하고 롤백되므로 리뷰가 사라지지 않음
+    //엔티티의 is_deleted = false 조건이 붙지 않도록 native query 사용
+    //SKIP LOCKED : 다른 트랜잭션이 잡고 있는 row는 기다리지 않고 다음 실행 때 처리
+    @Override
+    public int archiveDeletedReviews(LocalDateTime deletedBefore, int limit) {
+        final String columns = reviewColumns();
+        return entityManager.createNativeQuery("""
+                        WITH moved AS (
+                            DELETE FROM p_review
+                            WHERE review_id IN (
+                                SELECT review_id FROM p_review
+                                WHERE is_deleted = true AND deleted_at < :deletedBefore
+                                ORDER BY deleted_at
+                                LIMIT :limit
+                                FOR UPDATE SKIP LOCKED)
+                            RETURNING %1$s)
+                        INSERT INTO p_review_archive (%1$s, archived_at)
+                        SELECT %1$s, now() FROM moved
+                        """.formatted(columns))
+                .setParameter("deletedBefore", deletedBefore)
+                .setParameter("limit", limit)
+                .executeUpdate();
+    }
+
+    //p_review 컬럼 목록 - 공통 컬럼(TimeStamp)까지 포함해야 하므로 엔티티가 아닌 DB 에서 읽음
+    //스키마는 배포(마이그레이션) 때만 바뀌므로 처음 한 번만 읽어서 재사용
+    private String reviewColumns() {
+        String columns = reviewColumns;
+        if (columns == null) {
+            columns = (String) entityManager.createNativeQuery("""
+                            SELECT string_agg(quote_ident(attname), ', ' ORDER BY attnum)
+                            FROM pg_attribute
+                            WHERE attrelid = 'p_review'::regclass AND attnum > 0 AND NOT attisdropped
+                            """)
+                    .getSingleResult();
+            reviewColumns = columns;
+        }
+        return columns;
+    }
+
+    @Override
+    public Stream<UUID> streamOrderHistoryIds(int fetchSize) {
+        //중복 확인과 같은 기준이 되도록 삭제된 리뷰, 보관된 리뷰의 주문도 포함 (native query)
+        return entityManager.unwrap(Session.class)
+                .createNativeQuery("SELECT order_history_id FROM p_review "
+                        + "UNION ALL SELECT order_history_id FROM p_review_archive", UUID.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    //목록 조회 공통 로직
+    //내용 조회 1번 + (필요할 때만) COUNT 1번
+    private Page<ReviewResponse> findResponses(BooleanExpression condition, Pageable pageable) {
+        final List<ReviewResponse> content = queryFactory.select(reviewResponse())
+                .from(review)
+                .join(review.user, user)
+                .where(condition)
+                .orderBy(toOrderSpecifiers(pageable))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        //마지막 페이지이거나 첫 페이지 내용이 size보다 적으면 COUNT 쿼리를 생략함
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(condition));
+    }
+
+    //Slice 조회 공통 로직 - size + 1 개를 조회해서 남는 한 개로 다음 페이지 여부 판단
+    private Slice<ReviewResponse> findResponseSlice(BooleanExpression condition, Pageable pageable) {
+        final List<ReviewResponse> content = queryFactory.select(reviewResponse())
+                .from(review)
+                .join(review.user, user)
+                .where(condition)
+                .orderBy(toOrderSpecifiers(pageable))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        final boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content.remove(content.size() - 1);
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private long count(BooleanExpression condition) {
+        final Long count = queryFactory.select(review.count())
+                .from(review)
+                .where(condition)
+                .fetchOne();
+        return count == null ? 0L : count;
+    }
+
+    //SELECT 절에서 바로 ReviewResponse를 생성
+    //order_history_id는 p_review의 외래키 컬럼을 그대로 읽기 때문에 p_order_history 조인은 없음
+    private ConstructorExpression<ReviewResponse> reviewResponse() {
+        return Projections.constructor(ReviewResponse.class,
+                review.id,
+                review.orderHistory.id,
+                user.id,
+                user.nickname.value,
+                review.content.value,
+                review.rating.value,
+                review.reviewTime.value);
+    }
+
+    //Pageable의 Sort를 QueryDSL 정렬 조건으로 변환
+    private OrderSpecifier<?>[] toOrderSpecifiers(Pageable pageable) {
+        return pageable.getSort().stream()
+                .map(order -> {
+                    final ComparableExpressionBase<?> path = sortPath(order.getProperty());
+                    return order.isAscending() ? path.asc() : path.desc();
+                })
+                .toArray(OrderSpecifier<?>[]::new);
+    }
+
+    //ReviewSortType 의 정렬 필드만 허용 (모두 인덱스 컬럼)
+    private static ComparableExpressionBase<?> sortPath(String property) {
+        return switch (property) {
+            case "createdAt" -> review.createdAt;
+            case "id" -> review.id;
+            case "rating.value" -> review.rating.value;
+            default -> throw new IllegalArgumentException("정렬할 수 없는 필드 : " + property);
+        };
+    }
+
+    //id가 많으면 IN_CLAUSE_CHUNK_SIZE 개씩 나눠서 조회 후 합침
+    private <T> List<T> fetchInChunks(Collection<UUID> ids, Function<List<UUID>, List<T>> query) {
+        final List<UUID> idList = new ArrayList<>(ids);
+        final List<T> result = new ArrayList<>();
+        for (int from = 0; from < idList.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            final int to = Math.min(from + IN_CLAUSE_CHUNK_SIZE, idList.size());
+            result.addAll(query.apply(idList.subList(from, to)));
+        }
+        return result;
+    }
+
+    //(created_at, review_id) 가 커서보다 뒤에 있는 row만 조회하는 조건
+    //null을 반환하면 QueryDSL where 절에서 무시됨 -> 첫 페이지
+    private BooleanExpression afterCursor(ReviewCursor cursor, boolean isAsc) {
+        if (cursor == null) {
+            return null;
+        }
+        if (isAsc) {
+            return review.createdAt.gt(cursor.createdAt())
+                    .or(review.createdAt.eq(cursor.createdAt()).and(review.id.gt(cursor.reviewId())));
+        }
+        return review.createdAt.lt(cursor.createdAt())
+                .or(review.createdAt.eq(cursor.createdAt()).and(review.id.lt(cursor.reviewId())));
+    }
+
+    //커서 조건과 같은 순서로 정렬해야 다음 페이지가 정확히 이어짐
+    private OrderSpecifier<?>[] cursorOrder(boolean isAsc) {
+        return isAsc
+                ? new OrderSpecifier<?>[]{review.createdAt.asc(), review.id.asc()}
+                : new OrderSpecifier<?>[]{review.createdAt.desc(), review.id.desc()};
+    }
+
+    @Override
+    public List<ModeratedReview> softDeleteByUserId(Long userId, int limit) {
+        return jpaRepository.softDeleteByUserId(userId, limit);
+    }
+
+    @Override
+    public List<ModeratedReview> softDeleteByStoreIdAndCreatedAt(UUID storeId, LocalDateTime from, LocalDateTime to,
+                                                                 int limit) {
+        return jpaRepository.softDeleteByStoreIdAndCreatedAt(storeId, from, to, limit);
+    }
+
+    @Override
+    public List<ModeratedReview> softDeleteByIds(Collection<UUID> reviewIds) {
+        return jpaRepository.softDeleteByIds(reviewIds);
+    }
+
+    @Override
+    public List<ReviewRatingPoint> findRatingPointsByStoreId(UUID storeId, LocalDateTime from) {
+        return queryFactory.select(ratingPoint())
+                .from(review)
+                .where(review.storeId.eq(storeId), review.reviewTime.value.goe(from))
+                .fetch();
+    }
+
+    @Override
+    public Stream<ReviewRatingPoint> streamRatingPoints(LocalDateTime from, int fetchSize) {
+        return queryFactory.select(ratingPoint())
+                .from(review)
+                .where(review.reviewTime.value.goe(from))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    private ConstructorExpression<ReviewRatingPoint> ratingPoint() {
+        return Projections.constructor(ReviewRatingPoint.class,
+                review.storeId, review.reviewTime.value, review.rating.value);
+    }
+}
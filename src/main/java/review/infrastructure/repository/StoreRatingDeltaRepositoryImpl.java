@@ -0,0 +1,41 @@
+package review.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import review.domain.repository.StoreRatingDeltaRepository;
+import review.domain.repository.vo.StarCounts;
+import review.domain.repository.vo.StoreRatingDelta;
+import review.infrastructure.jpa.StoreRatingDeltaJpaRepository;
+import review.infrastructure.jpa.StoreRatingDeltaJpaRepository.ClaimedStarDeltas;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class StoreRatingDeltaRepositoryImpl implements StoreRatingDeltaRepository {
+
+    private final StoreRatingDeltaJpaRepository jpaRepository;
+
+    @Override
+    public StoreRatingDelta save(StoreRatingDelta delta) {
+        return jpaRepository.save(delta);
+    }
+
+    @Override
+    public StarCounts claimByStoreId(UUID storeId) {
+        final ClaimedStarDeltas claimed = jpaRepository.claimByStoreId(storeId);
+        return StarCounts.empty()
+                .plus(1, claimed.getStar1())
+                .plus(2, claimed.getStar2())
+                .plus(3, claimed.getStar3())
+                .plus(4, claimed.getStar4())
+                .plus(5, claimed.getStar5());
+    }
+
+    @Override
+    public List<UUID> findStoreIdsRecordedBefore(LocalDateTime before) {
+        return jpaRepository.findStoreIdsRecordedBefore(before);
+    }
+}
@@ -0,0 +1,29 @@
+package review.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import review.domain.repository.StoreRatingSummaryRepository;
+import review.domain.repository.vo.StarCounts;
+import review.domain.repository.vo.StoreRatingSummary;
+import review.infrastructure.jpa.StoreRatingSummaryJpaRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class StoreRatingSummaryRepositoryImpl implements StoreRatingSummaryRepository {
+
+    private final StoreRatingSummaryJpaRepository jpaRepository;
+
+    @Override
+    public void addStarCounts(UUID storeId, StarCounts starDeltas) {
+        jpaRepository.addStarCounts(storeId, starDeltas.getStar1(), starDeltas.getStar2(),
+                starDeltas.getStar3(), starDeltas.getStar4(), starDeltas.getStar5());
+    }
+
+    @Override
+    public Optional<StoreRatingSummary> findByStoreId(UUID storeId) {
+        return jpaRepository.findById(storeId);
+    }
+}
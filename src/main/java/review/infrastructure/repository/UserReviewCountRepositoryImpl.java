@@ -0,0 +1,26 @@
+package review.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import review.domain.repository.UserReviewCountRepository;
+import review.domain.repository.vo.UserReviewCount;
+import review.infrastructure.jpa.UserReviewCountJpaRepository;
+
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class UserReviewCountRepositoryImpl implements UserReviewCountRepository {
+
+    private final UserReviewCountJpaRepository jpaRepository;
+
+    @Override
+    public void addCount(Long userId, long delta) {
+        jpaRepository.addCount(userId, delta);
+    }
+
+    @Override
+    public Optional<Long> findCountByUserId(Long userId) {
+        return jpaRepository.findById(userId).map(UserReviewCount::getReviewCount);
+    }
+}
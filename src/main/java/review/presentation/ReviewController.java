@@ -1,13 +1,25 @@
 package review.presentation;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -16,11 +28,25 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import review.application.ReviewService;
+import review.application.cache.CachedResponse;
+import review.application.cache.ReviewResponseCache;
+import review.application.cache.StoreReviewPageCache;
+import review.application.dto.request.ReviewBulkCreateRequest;
 import review.application.dto.request.ReviewCreateRequest;
+import review.application.dto.request.ReviewModerationRequest;
 import review.application.dto.request.ReviewUpdateRequest;
+import review.application.dto.response.ReviewBulkCreateResponse;
+import review.application.dto.response.ReviewCursorResponse;
 import review.application.dto.response.ReviewListResponse;
+import review.application.dto.response.ReviewModerationResponse;
 import review.application.dto.response.ReviewResponse;
+import review.application.dto.response.ReviewSliceResponse;
+import review.application.dto.response.StoreRatingSummaryResponse;
+import review.application.dto.response.StoreRatingTrendResponse;
+import review.application.moderation.ReviewModerationService;
+import review.enums.ReviewSortType;
 import review.enums.UserRoleEnum;
 
 
@@ -32,13 +58,48 @@ import review.enums.UserRoleEnum;
 
 
 @RestController  //rest api 요청을 처리 컨트롤러
-@RequiredArgsConstructor  //final로 선언된 필드(ReviewService)를 자동으로 생성자 주입
 @RequestMapping("/reviews")
+@Validated  //@RequestParam 의 @Min, @Max 검증
 public class ReviewController {
 
+    //한 번에 조회할 수 있는 최대 리뷰 수 (size)
+    private static final int MAX_PAGE_SIZE = 100;
+
     //ReviewService를 주입받아서 service계층 로직 호출 역할
     private final ReviewService reviewService;
 
+    //리뷰 일괄 삭제 (모더레이션)
+    private final ReviewModerationService reviewModerationService;
+
+    //NDJSON 내보내기에서 한 줄씩 직렬화할 때 사용
+    private final ObjectMapper objectMapper;
+
+    //조건부 GET - 서비스를 호출하기 전에 캐시에 있는 응답의 ETag 와 If-None-Match 를 비교
+    private final ReviewResponseCache reviewResponseCache;
+    private final StoreReviewPageCache storeReviewPageCache;
+
+    //엔드포인트별 Cache-Control 헤더 값
+    private final String reviewInfoCacheControl;
+    private final String storeReviewsCacheControl;
+
+    public ReviewController(ReviewService reviewService,
+                            ReviewModerationService reviewModerationService,
+                            ObjectMapper objectMapper,
+                            ReviewResponseCache reviewResponseCache,
+                            StoreReviewPageCache storeReviewPageCache,
+                            @Value("${review.http.cache-control.review-info:private, no-cache}")
+                            String reviewInfoCacheControl,
+                            @Value("${review.http.cache-control.store-reviews:public, no-cache}")
+                            String storeReviewsCacheControl) {
+        this.reviewService = reviewService;
+        this.reviewModerationService = reviewModerationService;
+        this.objectMapper = objectMapper;
+        this.reviewResponseCache = reviewResponseCache;
+        this.storeReviewPageCache = storeReviewPageCache;
+        this.reviewInfoCacheControl = reviewInfoCacheControl;
+        this.storeReviewsCacheControl = storeReviewsCacheControl;
+    }
+
     //new 생성자 안해도 되고....초기화 부분..
     //자세히 하나하나 분석
 
@@ -63,6 +124,19 @@ public class ReviewController {
                 HttpStatus.CREATED);
     }
     
+    //리뷰 일괄 생성 POST
+    //주문 이관, 마이그레이션 작업용 - 건별 성공/실패 결과를 함께 반환
+    @Secured({UserRoleEnum.Authority.CUSTOMER, UserRoleEnum.Authority.MANAGER, UserRoleEnum.Authority.MASTER})
+    @PostMapping("/bulk")
+    public ResponseEntity<CommonResponse> createReviews(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @Valid @RequestBody ReviewBulkCreateRequest request) {
+
+        ReviewBulkCreateResponse response = reviewService.createReviews(request, userDetails);
+        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(response),
+                HttpStatus.CREATED);
+    }
+
     //리뷰 수정 PUT
     @Secured({UserRoleEnum.Authority.CUSTOMER, UserRoleEnum.Authority.MANAGER, UserRoleEnum.Authority.MASTER})
     @PutMapping("/{reviewId}")
@@ -94,32 +168,59 @@ public class ReviewController {
                 HttpStatus.OK);
     }
 
+    //리뷰 일괄 삭제 (모더레이션) - POST
+    //사용자별, 가게 + 기간별, 리뷰 id 목록 중 하나로 한 번에 삭제 처리
+    @Secured({UserRoleEnum.Authority.MANAGER, UserRoleEnum.Authority.MASTER})
+    @PostMapping("/moderation/delete")
+    public ResponseEntity<CommonResponse> moderateReviews(
+            @Valid @RequestBody ReviewModerationRequest request) {
+
+        ReviewModerationResponse response = reviewModerationService.softDelete(request);
+        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(response),
+                HttpStatus.OK);
+    }
+
     //리뷰 상세 조회 - GET
+    //클라이언트가 가진 ETag 가 캐시에 있는 응답의 ETag 와 같으면 DB 조회, 직렬화 없이 304 (본문 없음)
     @GetMapping("/{reviewId}")
     public ResponseEntity<CommonResponse> getReviewInfo(
-            @PathVariable UUID reviewId) {
+            @PathVariable UUID reviewId,
+            WebRequest webRequest) {
+
+        final String cachedETag = reviewResponseCache.eTagIfPresent(reviewId);
+        if (isNotModified(webRequest, cachedETag)) {
+            return new ResponseEntity<>(cacheHeaders(cachedETag, reviewInfoCacheControl),
+                    HttpStatus.NOT_MODIFIED);
+        }
 
         //service에서 review데이터 가져온다.
-        ReviewResponse response = reviewService.getReviewInfo(reviewId);
-        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(response),
-                HttpStatus.OK);
+        CachedResponse<ReviewResponse> response = reviewService.getReviewInfo(reviewId);
+        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(response.body()),
+                cacheHeaders(response.eTag(), reviewInfoCacheControl), HttpStatus.OK);
     }
 
     //가게별 리뷰 조회 (페이징 포함) - GET
     @GetMapping("/stores/{storeId}")
     public ResponseEntity<CommonResponse> getReviewsByStoreId(
             @PathVariable UUID storeId,
-            @RequestParam int page,  //몇 번째 페이지인지(0부터 시작)
-            @RequestParam int size, //한 페이지에 몇 개의 데이터
-            @RequestParam String sortBy, //정렬 기준(날짜, 평점...)
-            //오름차순 정렬
-            @RequestParam boolean isAsc ) {
-        
+            @RequestParam @Min(0) int page,  //몇 번째 페이지인지(0부터 시작)
+            @RequestParam @Min(1) @Max(MAX_PAGE_SIZE) int size, //한 페이지에 몇 개의 데이터
+            //정렬 방식 (NEWEST 최신순, OLDEST 오래된순, HIGHEST_RATING 평점 높은순, LOWEST_RATING 평점 낮은순)
+            @RequestParam(defaultValue = "NEWEST") ReviewSortType sort,
+            WebRequest webRequest) {
+
+        //캐시에 있는 페이지가 클라이언트가 가진 것과 같으면 304
+        final String cachedETag = storeReviewPageCache.eTagIfPresent(storeId, page, size, sort);
+        if (isNotModified(webRequest, cachedETag)) {
+            return new ResponseEntity<>(cacheHeaders(cachedETag, storeReviewsCacheControl),
+                    HttpStatus.NOT_MODIFIED);
+        }
+
         // service에서 가계리뷰리스트 들고오기
-        ReviewListResponse response = reviewService.getReviewsByStoreId(storeId, page, size, sortBy,
-                isAsc);
-        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(response),
-                HttpStatus.OK);
+        CachedResponse<ReviewListResponse> response = reviewService.getReviewsByStoreId(storeId, page,
+                size, sort);
+        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(response.body()),
+                cacheHeaders(response.eTag(), storeReviewsCacheControl), HttpStatus.OK);
     }
 
     //사용자별 리뷰 조회(페이징 포함) - GET
@@ -128,15 +229,177 @@ public class ReviewController {
     @GetMapping("/users/{userId}")
     public ResponseEntity<CommonResponse> getReviewsByUserId(
             @PathVariable Long userId,
-            @RequestParam int page,
-            @RequestParam int size,
-            @RequestParam String sortBy,
-            @RequestParam boolean isAsc) {
+            @RequestParam @Min(0) int page,
+            @RequestParam @Min(1) @Max(MAX_PAGE_SIZE) int size,
+            @RequestParam(defaultValue = "NEWEST") ReviewSortType sort) {
 
         //service에서 사용자별 리스트 들고옴.
-        ReviewListResponse response = reviewService.getReviewsByUserId(userId, page, size, sortBy,
-                isAsc);
+        ReviewListResponse response = reviewService.getReviewsByUserId(userId, page, size, sort);
+        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(response),
+                HttpStatus.OK);
+    }
+
+    //리뷰 내용 검색 - GET
+    //고객센터, 모니터링 팀용 - 검색어와 관련도가 높은 순으로 정렬, storeId를 주면 해당 가게 리뷰만
+    @Secured({UserRoleEnum.Authority.MANAGER, UserRoleEnum.Authority.MASTER})
+    @GetMapping("/search")
+    public ResponseEntity<CommonResponse> searchReviews(
+            @RequestParam String q,
+            @RequestParam(required = false) UUID storeId,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+
+        ReviewListResponse response = reviewService.searchReviews(q, storeId, page, size);
+        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(response),
+                HttpStatus.OK);
+    }
+
+    //가게 리뷰 전체 내보내기 (NDJSON) - GET
+    //한 줄에 리뷰 하나씩 JSON으로, DB에서 읽는 대로 바로 응답에 쓴다.
+    //ResponseEntity로 감싸면 전체를 메모리에 모아야 하므로 응답 스트림에 직접 씀
+    @Secured({UserRoleEnum.Authority.MANAGER, UserRoleEnum.Authority.MASTER})
+    @GetMapping(value = "/stores/{storeId}/export", produces = "application/x-ndjson")
+    public void exportReviewsByStoreId(
+            @PathVariable UUID storeId,
+            HttpServletResponse response) throws IOException {
+
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"reviews-" + storeId + ".ndjson\"");
+
+        //줄마다 \n 으로 구분해서 쓰는 writer
+        try (SequenceWriter writer = objectMapper.writer()
+                .withRootValueSeparator("\n")
+                .writeValues(response.getOutputStream())) {
+
+            reviewService.exportReviewsByStoreId(storeId, review -> {
+                try {
+                    writer.write(review);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    //가게 별점 요약 조회 - GET
+    //평균 평점, 리뷰 개수, 1~5점 별 개수
+    @GetMapping("/stores/{storeId}/summary")
+    public ResponseEntity<CommonResponse> getStoreRatingSummary(
+            @PathVariable UUID storeId) {
+
+        StoreRatingSummaryResponse response = reviewService.getStoreRatingSummary(storeId);
+        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(response),
+                HttpStatus.OK);
+    }
+
+    //가게 기간별 평점 추이 조회 - GET
+    //최근 24시간/7일/30일 평균 평점, 리뷰 개수와 직전 같은 기간 대비 변화
+    @GetMapping("/stores/{storeId}/trend")
+    public ResponseEntity<CommonResponse> getStoreRatingTrend(
+            @PathVariable UUID storeId) {
+
+        StoreRatingTrendResponse response = reviewService.getStoreRatingTrend(storeId);
         return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(response),
                 HttpStatus.OK);
     }
+
+    //가게별 리뷰 조회 (COUNT 없는 Slice) - GET
+    //무한 스크롤처럼 전체 개수가 필요 없는 화면용, withTotal=true 면 대략적인 전체 개수 포함
+    @GetMapping("/stores/{storeId}/slice")
+    public ResponseEntity<CommonResponse> getReviewSliceByStoreId(
+            @PathVariable UUID storeId,
+            @RequestParam @Min(0) int page,
+            @RequestParam @Min(1) @Max(MAX_PAGE_SIZE) int size,
+            @RequestParam(defaultValue = "NEWEST") ReviewSortType sort,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+
+        ReviewSliceResponse response = reviewService.getReviewSliceByStoreId(storeId, page, size,
+                sort, withTotal);
+        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(response),
+                HttpStatus.OK);
+    }
+
+    //사용자별 리뷰 조회 (COUNT 없는 Slice) - GET
+    @GetMapping("/users/{userId}/slice")
+    public ResponseEntity<CommonResponse> getReviewSliceByUserId(
+            @PathVariable Long userId,
+            @RequestParam @Min(0) int page,
+            @RequestParam @Min(1) @Max(MAX_PAGE_SIZE) int size,
+            @RequestParam(defaultValue = "NEWEST") ReviewSortType sort,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+
+        ReviewSliceResponse response = reviewService.getReviewSliceByUserId(userId, page, size,
+                sort, withTotal);
+        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(response),
+                HttpStatus.OK);
+    }
+
+    //가게별 리뷰 조회 (커서 페이징) - GET
+    //첫 요청은 cursor 없이, 다음 요청부터는 응답의 nextCursor를 그대로 넘기면 된다.
+    @GetMapping("/stores/{storeId}/cursor")
+    public ResponseEntity<CommonResponse> getReviewsByStoreIdWithCursor(
+            @PathVariable UUID storeId,
+            @RequestParam(required = false) String cursor, //이전 응답의 nextCursor
+            @RequestParam @Min(1) @Max(MAX_PAGE_SIZE) int size,
+            @RequestParam boolean isAsc) {
+
+        ReviewCursorResponse response = reviewService.getReviewsByStoreIdWithCursor(storeId, cursor,
+                size, isAsc);
+        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(response),
+                HttpStatus.OK);
+    }
+
+    //사용자별 리뷰 조회 (커서 페이징) - GET
+    @GetMapping("/users/{userId}/cursor")
+    public ResponseEntity<CommonResponse> getReviewsByUserIdWithCursor(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam @Min(1) @Max(MAX_PAGE_SIZE) int size,
+            @RequestParam boolean isAsc) {
+
+        ReviewCursorResponse response = reviewService.getReviewsByUserIdWithCursor(userId, cursor,
+                size, isAsc);
+        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(response),
+                HttpStatus.OK);
+    }
+
+    //page, size 범위를 벗어난 요청은 400 (size=0 이면 커서 응답을 만들 때 실패하고, 음수는 그대로 쿼리로 넘어감)
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ProblemDetail> handleConstraintViolation(final ConstraintViolationException e) {
+        return ResponseEntity.badRequest()
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage()));
+    }
+
+    //If-None-Match 에 eTag 가 있으면 true (W/ 약한 비교, * 포함)
+    //eTag 는 캐시에 올라간 응답마다 새로 발급되므로 같으면 지금 캐시에서 내려줄 본문과 같음 (ResponseVersions)
+    //캐시에 없으면(eTag == null) 비교할 수 없으므로 항상 조회
+    //WebRequest.checkNotModified 는 일치하지 않아도 응답에 ETag 를 써 버려서, 조회 후 다른 ETag 와 겹치므로 직접 비교
+    private static boolean isNotModified(final WebRequest webRequest, final String eTag) {
+        final String[] ifNoneMatch = webRequest.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        if (eTag == null || ifNoneMatch == null) {
+            return false;
+        }
+        for (String header : ifNoneMatch) {
+            for (String candidate : header.split(",")) {
+                final String tag = candidate.trim();
+                if (tag.equals("*") || tag.equals(eTag) || tag.equals("W/" + eTag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    //ETag, Cache-Control 헤더 (200, 304 응답 모두 같은 헤더)
+    //캐시에 넣지 않은 응답은 ETag 없이 Cache-Control 만
+    private static HttpHeaders cacheHeaders(final String eTag, final String cacheControl) {
+        final HttpHeaders headers = new HttpHeaders();
+        if (eTag != null) {
+            headers.setETag(eTag);
+        }
+        headers.setCacheControl(cacheControl);
+        return headers;
+    }
 }
@@ -0,0 +1,13 @@
+-- 삭제 시각 컬럼 - 보관 기간 계산 기준
+ALTER TABLE p_review ADD COLUMN IF NOT EXISTS deleted_at timestamp;
+
+-- 이미 삭제된 리뷰는 지금부터 보관 기간을 계산
+UPDATE p_review SET deleted_at = now() WHERE is_deleted = true AND deleted_at IS NULL;
+
+-- 보관 테이블 : p_review 와 같은 컬럼 + 보관 시각
+-- p_review 에 컬럼이 추가되면 여기에도 같은 이름으로 추가해야 함 (보관 INSERT 가 p_review 컬럼 이름을 나열)
+CREATE TABLE IF NOT EXISTS p_review_archive (LIKE p_review INCLUDING DEFAULTS);
+ALTER TABLE p_review_archive ADD COLUMN IF NOT EXISTS archived_at timestamp NOT NULL DEFAULT now();
+
+-- 보관된 리뷰의 주문도 중복 리뷰 확인 대상 (existsByOrderHistoryIdIncludingDeleted)
+CREATE INDEX IF NOT EXISTS idx_review_archive_order_history_id ON p_review_archive (order_history_id);
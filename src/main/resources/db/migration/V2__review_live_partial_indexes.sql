@@ -0,0 +1,15 @@
+-- 삭제되지 않은 리뷰만 담는 부분 인덱스 (WHERE is_deleted = false)
+-- 모든 조회에 is_deleted = false 조건이 붙으므로 삭제된 row는 인덱스에 넣을 필요가 없음
+-- CONCURRENTLY : 인덱스를 만드는 동안에도 INSERT/UPDATE 를 막지 않음 (트랜잭션 밖에서 실행됨)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_review_store_live
+    ON p_review (store_id, created_at DESC, review_id DESC)
+    WHERE is_deleted = false;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_review_user_live
+    ON p_review (user_id, created_at DESC, review_id DESC)
+    WHERE is_deleted = false;
+
+-- 보관 배치가 오래된 삭제 리뷰를 찾을 때 사용
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_review_deleted_at
+    ON p_review (deleted_at)
+    WHERE is_deleted = true;
@@ -0,0 +1,9 @@
+-- 평점 높은순, 낮은순 정렬용 부분 인덱스 (ReviewSortType.HIGHEST_RATING, LOWEST_RATING)
+-- 최신순, 오래된순은 V2 의 idx_review_store_live, idx_review_user_live 를 사용
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_review_store_rating_live
+    ON p_review (store_id, rating DESC, review_id DESC)
+    WHERE is_deleted = false;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_review_user_rating_live
+    ON p_review (user_id, rating DESC, review_id DESC)
+    WHERE is_deleted = false;
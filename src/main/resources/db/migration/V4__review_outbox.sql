@@ -0,0 +1,38 @@
+-- 리뷰 이벤트 아웃박스 (ReviewOutboxEvent)
+-- 시퀀스는 allocationSize(50) 와 같은 값만큼 증가해야 함
+CREATE SEQUENCE IF NOT EXISTS p_review_outbox_seq INCREMENT BY 50;
+
+-- 처리 순서 (commit_seq) - review_outbox_id 는 서버마다 50개씩 미리 받은 범위라 커밋 순서와 무관하므로
+-- INSERT 될 때 DB 가 한 건씩 채우는 번호를 따로 둠
+CREATE SEQUENCE IF NOT EXISTS p_review_outbox_commit_seq;
+
+CREATE TABLE IF NOT EXISTS p_review_outbox (
+    review_outbox_id bigint       PRIMARY KEY,
+    event_type       varchar(255) NOT NULL,
+    store_id         uuid         NOT NULL,
+    review_id        uuid         NOT NULL,
+    payload          text         NOT NULL,
+    created_at       timestamp    NOT NULL,
+    attempts         integer      NOT NULL DEFAULT 0,
+    next_attempt_at  timestamp    NOT NULL,
+    commit_seq       bigint       NOT NULL DEFAULT nextval('p_review_outbox_commit_seq'),
+    -- 기록한 트랜잭션 - 디스패처는 진행 중인 가장 오래된 트랜잭션(pg_snapshot_xmin)보다 앞선 것만 꺼냄
+    txid             xid8         NOT NULL DEFAULT pg_current_xact_id()
+);
+
+-- 가게별 순서 확인 (앞선 이벤트가 재시도 대기 중인지) 용
+CREATE INDEX IF NOT EXISTS idx_review_outbox_store_commit_seq ON p_review_outbox (store_id, commit_seq);
+
+-- 읽을 수 없는 이벤트 (payload 역직렬화 실패) - 아웃박스에서 옮겨두고 나머지 이벤트는 계속 처리
+CREATE TABLE IF NOT EXISTS p_review_outbox_dead_letter (
+    review_outbox_id bigint       PRIMARY KEY,
+    event_type       varchar(255) NOT NULL,
+    store_id         uuid         NOT NULL,
+    review_id        uuid         NOT NULL,
+    payload          text         NOT NULL,
+    created_at       timestamp    NOT NULL,
+    attempts         integer      NOT NULL,
+    commit_seq       bigint       NOT NULL,
+    error            text         NOT NULL,
+    failed_at        timestamp    NOT NULL
+);
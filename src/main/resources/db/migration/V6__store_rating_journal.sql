@@ -0,0 +1,28 @@
+-- 가게 평점 변경분 저널 (StoreRatingDelta)
+-- 리뷰 트랜잭션에서 INSERT, StoreRatingFlushWriter 가 DELETE ... RETURNING 으로 가져가서 가게 평점에 반영
+CREATE TABLE IF NOT EXISTS p_store_rating_delta (
+    store_rating_delta_id uuid      PRIMARY KEY,
+    store_id              uuid      NOT NULL,
+    count_delta           integer   NOT NULL,
+    sum_delta             numeric   NOT NULL,
+    star_1                bigint    NOT NULL DEFAULT 0,
+    star_2                bigint    NOT NULL DEFAULT 0,
+    star_3                bigint    NOT NULL DEFAULT 0,
+    star_4                bigint    NOT NULL DEFAULT 0,
+    star_5                bigint    NOT NULL DEFAULT 0,
+    created_at            timestamp NOT NULL DEFAULT now()
+);
+
+-- flush 가 가게별로 변경분을 가져갈 때 사용
+CREATE INDEX IF NOT EXISTS idx_store_rating_delta_store_id ON p_store_rating_delta (store_id);
+
+-- 가게별 별점 분포 (StoreRatingSummary)
+CREATE TABLE IF NOT EXISTS p_store_rating_summary (
+    store_id   uuid      PRIMARY KEY,
+    star_1     bigint    NOT NULL DEFAULT 0,
+    star_2     bigint    NOT NULL DEFAULT 0,
+    star_3     bigint    NOT NULL DEFAULT 0,
+    star_4     bigint    NOT NULL DEFAULT 0,
+    star_5     bigint    NOT NULL DEFAULT 0,
+    updated_at timestamp NOT NULL DEFAULT now()
+);
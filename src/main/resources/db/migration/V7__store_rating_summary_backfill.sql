@@ -0,0 +1,35 @@
+-- 가게별 별점 분포 (p_store_rating_summary) 초기 적재
+-- 요약 row 가 없는 가게를 조회/flush 시점에 p_review GROUP BY 로 채우던 방식을 대체
+-- (flush 와 동시에 채우면 변경분이 두 번 반영되고, 조회 시 GROUP BY 는 리뷰 수에 비례하는 비용)
+
+-- 적재 중에는 flush 의 요약 반영(INSERT ... ON CONFLICT)을 막음
+-- 이미 반영 중이던 flush 는 커밋될 때까지 기다린 뒤 아래 INSERT 가 실행됨
+LOCK TABLE p_store_rating_summary IN EXCLUSIVE MODE;
+
+-- 요약 = 살아있는 리뷰의 별점별 개수 - 아직 반영되지 않은 변경분
+-- 저널에 남아있는 변경분은 이후 flush 가 요약에 더하므로 여기서 빼 두어야 두 번 세지 않는다.
+INSERT INTO p_store_rating_summary (store_id, star_1, star_2, star_3, star_4, star_5, updated_at)
+SELECT store_id, SUM(star_1), SUM(star_2), SUM(star_3), SUM(star_4), SUM(star_5), now()
+FROM (
+    SELECT store_id,
+           COUNT(*) FILTER (WHERE rating = 1) AS star_1,
+           COUNT(*) FILTER (WHERE rating = 2) AS star_2,
+           COUNT(*) FILTER (WHERE rating = 3) AS star_3,
+           COUNT(*) FILTER (WHERE rating = 4) AS star_4,
+           COUNT(*) FILTER (WHERE rating = 5) AS star_5
+    FROM p_review
+    WHERE is_deleted = false
+    GROUP BY store_id
+    UNION ALL
+    SELECT store_id, -SUM(star_1), -SUM(star_2), -SUM(star_3), -SUM(star_4), -SUM(star_5)
+    FROM p_store_rating_delta
+    GROUP BY store_id
+) counts
+GROUP BY store_id
+ON CONFLICT (store_id) DO UPDATE SET
+    star_1 = EXCLUDED.star_1,
+    star_2 = EXCLUDED.star_2,
+    star_3 = EXCLUDED.star_3,
+    star_4 = EXCLUDED.star_4,
+    star_5 = EXCLUDED.star_5,
+    updated_at = EXCLUDED.updated_at;
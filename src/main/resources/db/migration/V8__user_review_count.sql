@@ -0,0 +1,20 @@
+-- 유저별 리뷰 개수 (UserReviewCount)
+-- 리뷰 생성/삭제 트랜잭션이 커밋 직전에 INSERT ... ON CONFLICT 로 변화량을 더함
+CREATE TABLE IF NOT EXISTS p_user_review_count (
+    user_id      bigint    PRIMARY KEY,
+    review_count bigint    NOT NULL DEFAULT 0,
+    updated_at   timestamp NOT NULL DEFAULT now()
+);
+
+-- 적재 중에는 리뷰 트랜잭션의 개수 반영을 막음
+-- 이미 반영한 트랜잭션은 커밋될 때까지 기다린 뒤, 아직 반영 전인 트랜잭션은 적재가 끝난 뒤에 더함
+LOCK TABLE p_user_review_count IN EXCLUSIVE MODE;
+
+INSERT INTO p_user_review_count (user_id, review_count, updated_at)
+SELECT user_id, COUNT(*), now()
+FROM p_review
+WHERE is_deleted = false
+GROUP BY user_id
+ON CONFLICT (user_id) DO UPDATE SET
+    review_count = EXCLUDED.review_count,
+    updated_at = EXCLUDED.updated_at;
@@ -0,0 +1,59 @@
+package review.application.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import review.application.cache.ReviewJsonCache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//미리 만든 JSON 을 복사해도 기본 직렬화와 같은 JSON 이 나오는지
+class ReviewListResponseSerializerTest {
+
+    private final ObjectMapper defaultMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private final ObjectMapper precomputedMapper = JsonMapper.builder().findAndAddModules()
+            .addModule(new SimpleModule().addSerializer(ReviewListResponse.class,
+                    new ReviewListResponseSerializer(new ReviewJsonCache(true, 1 << 20, Duration.ofMinutes(1),
+                            new SimpleMeterRegistry()))))
+            .build();
+
+    @Test
+    void writesSameJsonAsDefaultSerialization() throws Exception {
+        final ReviewListResponse response = page(review("배달이 빨라요 \"최고\"", 5), review(null, 3));
+
+        //처음(직렬화 후 저장), 두 번째(저장된 JSON 복사) 모두 같은 결과
+        assertThat(precomputedMapper.writeValueAsString(response))
+                .isEqualTo(defaultMapper.writeValueAsString(response));
+        assertThat(precomputedMapper.writeValueAsString(response))
+                .isEqualTo(defaultMapper.writeValueAsString(response));
+    }
+
+    @Test
+    void doesNotReuseJsonOfChangedReview() throws Exception {
+        final ReviewResponse before = review("식어서 왔어요", 2);
+        final ReviewResponse after = new ReviewResponse(before.reviewId(), before.orderHistoryId(),
+                before.userId(), before.nickname(), "다시 시켰더니 따뜻했어요", 4, before.reviewTime());
+
+        precomputedMapper.writeValueAsString(page(before));
+
+        assertThat(precomputedMapper.writeValueAsString(page(after)))
+                .isEqualTo(defaultMapper.writeValueAsString(page(after)));
+    }
+
+    private static ReviewListResponse page(final ReviewResponse... reviews) {
+        return new ReviewListResponse(List.of(reviews), 1, reviews.length);
+    }
+
+    private static ReviewResponse review(final String content, final int rating) {
+        return new ReviewResponse(UUID.randomUUID(), UUID.randomUUID(), 1L, "배고픈고양이", content, rating,
+                LocalDateTime.of(2025, 1, 2, 12, 30));
+    }
+}
@@ -0,0 +1,463 @@
+package review.presentation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import review.application.dto.request.ReviewBulkCreateRequest;
+import review.application.dto.request.ReviewCreateRequest;
+import review.application.dto.request.ReviewModerationRequest;
+import review.application.dto.request.ReviewUpdateRequest;
+import review.application.filter.ReviewedOrderFilter;
+import review.enums.UserRoleEnum;
+import review.infrastructure.metrics.RequestBudgetProperties;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static review.presentation.ReviewPerformanceFixtures.FIRST_NORMAL_USER_ID;
+import static review.presentation.ReviewPerformanceFixtures.HOT_STORE_COUNT;
+import static review.presentation.ReviewPerformanceFixtures.HOT_STORE_REVIEW_COUNT;
+import static review.presentation.ReviewPerformanceFixtures.HOT_USER_COUNT;
+import static review.presentation.ReviewPerformanceFixtures.MANAGER_ID;
+import static review.presentation.ReviewPerformanceFixtures.REVIEW_COUNT;
+import static review.presentation.ReviewPerformanceFixtures.UNREVIEWED_ORDER_COUNT;
+import static review.presentation.ReviewPerformanceFixtures.USER_COUNT;
+import static review.presentation.ReviewPerformanceFixtures.WRITER_ID;
+import static review.presentation.ReviewPerformanceFixtures.orderHistoryId;
+import static review.presentation.ReviewPerformanceFixtures.reviewId;
+import static review.presentation.ReviewPerformanceFixtures.storeId;
+
+//ReviewController 엔드포인트별 성능 회귀 테스트 (PostgreSQL 컨테이너, ReviewPerformanceFixtures)
+//엔드포인트마다 다른 대상으로 WARM_UP_COUNT 번 요청한 뒤(JIT), 캐시를 못 타는 요청 SAMPLE_COUNT 번을 측정
+//1. 요청마다 SQL 개수 = review.perf.budgets 의 max-statements (p6spy) -> N+1 이 생기거나 조회가 늘어나면 실패
+//2. p_review 를 읽는 SQL 의 실행 계획에 Seq Scan 이 없음 (첫 요청에서 실제로 실행된 SQL 을 EXPLAIN)
+//3. 응답 시간 p90 <= max-latency (한 번 느린 요청으로는 실패하지 않도록 백분위로 검사)
+//요청 대상(가게, 유저, 리뷰, 주문)은 테스트 메소드끼리도 겹치지 않게 아래 순번에서 꺼내 씀
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(ReviewPerformanceTestConfiguration.class)
+class ReviewControllerPerformanceTest {
+
+    private static final int WARM_UP_COUNT = 5;
+    private static final int SAMPLE_COUNT = 10;
+    private static final double LATENCY_PERCENTILE = 0.9;
+
+    //p_review 자신, 해시 파티션(p_review_p00), 시간 하위 파티션(p_review_p00_2025_01)
+    private static final Pattern REVIEW_RELATION = Pattern.compile("^p_review$|^p_review_p\\d{2}(_.+)?$");
+    private static final Pattern READS_REVIEW = Pattern.compile("(?is)^\\s*(select|with|update|delete)\\b.*\\bp_review\\b.*");
+
+    //예열용 일반 가게, 유저 (측정은 인기 가게 1 ~ HOT_STORE_COUNT, 인기 유저 1 ~ HOT_USER_COUNT)
+    private static final AtomicInteger NEXT_WARM_UP_STORE = new AtomicInteger(HOT_STORE_COUNT + 1);
+    private static final AtomicInteger NEXT_WARM_UP_USER = new AtomicInteger(FIRST_NORMAL_USER_ID);
+    //일괄 삭제 대상 유저 - 예열 유저와 겹치지 않도록 뒤쪽부터
+    private static final AtomicInteger NEXT_MODERATION_USER = new AtomicInteger(USER_COUNT - 1000);
+    //단건 조회/수정/삭제 대상 리뷰 (일반 가게의 리뷰)
+    private static final AtomicInteger NEXT_REVIEW = new AtomicInteger(HOT_STORE_REVIEW_COUNT + 1);
+    //리뷰 작성 대상 주문 (리뷰가 없는 주문)
+    private static final AtomicInteger NEXT_ORDER = new AtomicInteger(REVIEW_COUNT + 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlCaptureListener sqlCaptureListener;
+
+    @Autowired
+    private RequestBudgetProperties requestBudgetProperties;
+
+    @Autowired
+    private ReviewedOrderFilter reviewedOrderFilter;
+
+    @Test
+    void getReviewInfo() throws Exception {
+        verify("GET", "/reviews/{reviewId}", status().isOk(),
+                () -> get("/reviews/{reviewId}", reviewId(NEXT_REVIEW.getAndIncrement())).with(asViewer()),
+                n -> get("/reviews/{reviewId}", reviewId(NEXT_REVIEW.getAndIncrement())).with(asViewer()));
+    }
+
+    @Test
+    void getReviewsByStoreId() throws Exception {
+        verify("GET", "/reviews/stores/{storeId}", status().isOk(),
+                () -> get("/reviews/stores/{storeId}", nextWarmUpStore()).with(asViewer())
+                        .param("page", "0").param("size", "20").param("sort", "NEWEST"),
+                n -> get("/reviews/stores/{storeId}", hotStore(n)).with(asViewer())
+                        .param("page", "0").param("size", "20").param("sort", "NEWEST"));
+    }
+
+    //캐시에 올라간 응답의 ETag 로 다시 요청하면 DB 조회 없이 304
+    @Test
+    void getReviewInfoNotModified() throws Exception {
+        final UUID reviewId = reviewId(NEXT_REVIEW.getAndIncrement());
+        verifyNotModified(() -> get("/reviews/{reviewId}", reviewId).with(asViewer()));
+    }
+
+    @Test
+    void getReviewsByStoreIdNotModified() throws Exception {
+        final UUID storeId = nextWarmUpStore();
+        verifyNotModified(() -> get("/reviews/stores/{storeId}", storeId).with(asViewer())
+                .param("page", "0").param("size", "20").param("sort", "NEWEST"));
+    }
+
+    @Test
+    void getReviewsByUserId() throws Exception {
+        verify("GET", "/reviews/users/{userId}", status().isOk(),
+                () -> get("/reviews/users/{userId}", nextWarmUpUser()).with(asViewer())
+                        .param("page", "0").param("size", "20").param("sort", "NEWEST"),
+                n -> get("/reviews/users/{userId}", hotUser(n)).with(asViewer())
+                        .param("page", "0").param("size", "20").param("sort", "NEWEST"));
+    }
+
+    @Test
+    void searchReviews() throws Exception {
+        verify("GET", "/reviews/search", status().isOk(),
+                () -> get("/reviews/search")
+                        .param("q", "배달").param("storeId", nextWarmUpStore().toString()).param("size", "20")
+                        .with(loginAs(MANAGER_ID, UserRoleEnum.Authority.MANAGER)),
+                n -> get("/reviews/search")
+                        .param("q", "배달").param("storeId", hotStore(n).toString()).param("size", "20")
+                        .with(loginAs(MANAGER_ID, UserRoleEnum.Authority.MANAGER)));
+    }
+
+    @Test
+    void exportReviewsByStoreId() throws Exception {
+        verify("GET", "/reviews/stores/{storeId}/export", status().isOk(),
+                () -> get("/reviews/stores/{storeId}/export", nextWarmUpStore())
+                        .with(loginAs(MANAGER_ID, UserRoleEnum.Authority.MANAGER)),
+                n -> get("/reviews/stores/{storeId}/export", hotStore(n))
+                        .with(loginAs(MANAGER_ID, UserRoleEnum.Authority.MANAGER)));
+    }
+
+    @Test
+    void getStoreRatingSummary() throws Exception {
+        verify("GET", "/reviews/stores/{storeId}/summary", status().isOk(),
+                () -> get("/reviews/stores/{storeId}/summary", nextWarmUpStore()).with(asViewer()),
+                n -> get("/reviews/stores/{storeId}/summary", hotStore(n)).with(asViewer()));
+    }
+
+    @Test
+    void getStoreRatingTrend() throws Exception {
+        verify("GET", "/reviews/stores/{storeId}/trend", status().isOk(),
+                () -> get("/reviews/stores/{storeId}/trend", nextWarmUpStore()).with(asViewer()),
+                n -> get("/reviews/stores/{storeId}/trend", hotStore(n)).with(asViewer()));
+    }
+
+    @Test
+    void getReviewSliceByStoreId() throws Exception {
+        verify("GET", "/reviews/stores/{storeId}/slice", status().isOk(),
+                () -> get("/reviews/stores/{storeId}/slice", nextWarmUpStore()).with(asViewer())
+                        .param("page", "1").param("size", "20").param("withTotal", "true"),
+                n -> get("/reviews/stores/{storeId}/slice", hotStore(n)).with(asViewer())
+                        .param("page", "1").param("size", "20").param("withTotal", "true"));
+    }
+
+    @Test
+    void getReviewSliceByUserId() throws Exception {
+        verify("GET", "/reviews/users/{userId}/slice", status().isOk(),
+                () -> get("/reviews/users/{userId}/slice", nextWarmUpUser()).with(asViewer())
+                        .param("page", "1").param("size", "20").param("withTotal", "true"),
+                n -> get("/reviews/users/{userId}/slice", hotUser(n)).with(asViewer())
+                        .param("page", "1").param("size", "20").param("withTotal", "true"));
+    }
+
+    @Test
+    void getReviewsByStoreIdWithCursor() throws Exception {
+        verify("GET", "/reviews/stores/{storeId}/cursor", status().isOk(),
+                () -> get("/reviews/stores/{storeId}/cursor", nextWarmUpStore()).with(asViewer())
+                        .param("size", "20").param("isAsc", "false"),
+                n -> get("/reviews/stores/{storeId}/cursor", hotStore(n)).with(asViewer())
+                        .param("size", "20").param("isAsc", "false"));
+    }
+
+    @Test
+    void getReviewsByUserIdWithCursor() throws Exception {
+        verify("GET", "/reviews/users/{userId}/cursor", status().isOk(),
+                () -> get("/reviews/users/{userId}/cursor", nextWarmUpUser()).with(asViewer())
+                        .param("size", "20").param("isAsc", "true"),
+                n -> get("/reviews/users/{userId}/cursor", hotUser(n)).with(asViewer())
+                        .param("size", "20").param("isAsc", "true"));
+    }
+
+    @Test
+    void createReview() throws Exception {
+        //요청마다 새 주문 - 필터가 "확실히 없다" 고 하는 주문만 (중복 확인 조회를 건너뛰는 경우로 SQL 개수 고정)
+        final Supplier<MockHttpServletRequestBuilder> request = () ->
+                post("/reviews/{orderHistoryId}", nextUnreviewedOrder(true))
+                        .with(loginAs(WRITER_ID, UserRoleEnum.Authority.CUSTOMER))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new ReviewCreateRequest("배달이 빨라요", 5,
+                                LocalDateTime.now().minusHours(1))));
+
+        verify("POST", "/reviews/{orderHistoryId}", status().isCreated(), request, n -> request.get());
+    }
+
+    @Test
+    void createReviews() throws Exception {
+        //요청마다 새 주문 3 건
+        final Supplier<MockHttpServletRequestBuilder> request = () -> {
+            final List<ReviewBulkCreateRequest.Item> items = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                items.add(new ReviewBulkCreateRequest.Item(nextUnreviewedOrder(false),
+                        new ReviewCreateRequest("양이 많아요", 4, LocalDateTime.now().minusHours(1))));
+            }
+            return post("/reviews/bulk")
+                    .with(loginAs(WRITER_ID, UserRoleEnum.Authority.CUSTOMER))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(json(new ReviewBulkCreateRequest(items)));
+        };
+
+        verify("POST", "/reviews/bulk", status().isCreated(), request, n -> request.get());
+    }
+
+    @Test
+    void updateReview() throws Exception {
+        final Supplier<MockHttpServletRequestBuilder> request = () -> {
+            final SeededReview review = nextReview();
+            return put("/reviews/{reviewId}", review.reviewId())
+                    .with(loginAs(review.userId(), UserRoleEnum.Authority.CUSTOMER))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(json(new ReviewUpdateRequest("다시 시켰는데 이번엔 식어서 왔어요",
+                            review.rating() % 5 + 1, review.reviewTime())));
+        };
+
+        verify("PUT", "/reviews/{reviewId}", status().isOk(), request, n -> request.get());
+    }
+
+    @Test
+    void softDeleteReview() throws Exception {
+        final Supplier<MockHttpServletRequestBuilder> request = () ->
+                delete("/reviews/{reviewId}", reviewId(NEXT_REVIEW.getAndIncrement()))
+                        .with(loginAs(MANAGER_ID, UserRoleEnum.Authority.MANAGER));
+
+        verify("DELETE", "/reviews/{reviewId}", status().isOk(), request, n -> request.get());
+    }
+
+    @Test
+    void moderateReviews() throws Exception {
+        //요청마다 다른 유저의 리뷰 3 건 (예열이 측정 대상 리뷰를 먼저 지우지 않도록)
+        final Supplier<MockHttpServletRequestBuilder> request = () -> {
+            final List<UUID> reviewIds = jdbcTemplate.queryForList("""
+                    SELECT review_id FROM p_review WHERE user_id = ? AND is_deleted = false LIMIT 3
+                    """, UUID.class, (long) NEXT_MODERATION_USER.getAndIncrement());
+            assertThat(reviewIds).hasSize(3);
+            return post("/reviews/moderation/delete")
+                    .with(loginAs(MANAGER_ID, UserRoleEnum.Authority.MANAGER))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(json(new ReviewModerationRequest(null, null, null, null, reviewIds)));
+        };
+
+        verify("POST", "/reviews/moderation/delete", status().isOk(), request, n -> request.get());
+    }
+
+    //warmUp 으로 WARM_UP_COUNT 번 요청한 뒤 sample(0 ~ SAMPLE_COUNT - 1) 요청을 측정
+    //요청은 보내기 직전에 만듦 (예열이 바꾼 데이터를 보고 대상을 고르도록)
+    private void verify(final String method, final String uri, final ResultMatcher expectedStatus,
+                        final Supplier<MockHttpServletRequestBuilder> warmUp,
+                        final IntFunction<MockHttpServletRequestBuilder> sample) throws Exception {
+        final RequestBudgetProperties.Budget budget = requestBudgetProperties.find(method, uri);
+        assertThat(budget).as("review.perf.budgets 에 %s %s 예산이 없습니다.", method, uri).isNotNull();
+
+        for (int i = 0; i < WARM_UP_COUNT; i++) {
+            mockMvc.perform(warmUp.get()).andExpect(expectedStatus);
+        }
+
+        final long[] latencies = new long[SAMPLE_COUNT];
+        for (int n = 0; n < SAMPLE_COUNT; n++) {
+            final MockHttpServletRequestBuilder request = sample.apply(n);
+
+            final List<SqlCaptureListener.CapturedSql> statements;
+            final long startNanos = System.nanoTime();
+            sqlCaptureListener.begin();
+            try {
+                mockMvc.perform(request).andExpect(expectedStatus);
+            } finally {
+                statements = sqlCaptureListener.end();
+                latencies[n] = System.nanoTime() - startNanos;
+            }
+
+            assertThat(statements)
+                    .as("%s %s %d 번째 요청 SQL 개수 (예산 %d 개)", method, uri, n + 1, budget.getMaxStatements())
+                    .hasSize(budget.getMaxStatements());
+
+            //실행 계획은 대상만 다르고 같으므로 첫 요청만 확인
+            if (n == 0) {
+                verifyNoReviewSeqScan(method, uri, statements);
+            }
+        }
+
+        Arrays.sort(latencies);
+        final Duration percentile = Duration.ofNanos(
+                latencies[(int) Math.ceil(LATENCY_PERCENTILE * SAMPLE_COUNT) - 1]);
+        assertThat(percentile)
+                .as("%s %s 응답 시간 p%d (예산 %d ms, 전체 %s ns)", method, uri, (int) (LATENCY_PERCENTILE * 100),
+                        budget.getMaxLatency().toMillis(), Arrays.toString(latencies))
+                .isLessThanOrEqualTo(budget.getMaxLatency());
+    }
+
+    //첫 요청의 ETag 로 다시 요청 -> SQL 없이 304, 같은 ETag
+    private void verifyNotModified(final Supplier<MockHttpServletRequestBuilder> request) throws Exception {
+        final String eTag = mockMvc.perform(request.get())
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).as("캐시에 올라간 응답에는 ETag 가 있어야 합니다.").isNotNull();
+
+        final List<SqlCaptureListener.CapturedSql> statements;
+        sqlCaptureListener.begin();
+        try {
+            mockMvc.perform(request.get().header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, eTag));
+        } finally {
+            statements = sqlCaptureListener.end();
+        }
+        assertThat(statements).as("304 응답의 SQL").isEmpty();
+    }
+
+    private void verifyNoReviewSeqScan(final String method, final String uri,
+                                       final List<SqlCaptureListener.CapturedSql> statements) throws Exception {
+        for (SqlCaptureListener.CapturedSql statement : statements) {
+            if (!statement.batch() && READS_REVIEW.matcher(statement.sql()).matches()) {
+                assertThat(seqScanRelations(explain(statement.sql())))
+                        .as("%s %s 실행 계획에 p_review Seq Scan 이 있습니다.%n%s", method, uri, statement.sql())
+                        .isEmpty();
+            }
+        }
+    }
+
+    private JsonNode explain(final String sql) throws Exception {
+        return objectMapper.readTree(jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class));
+    }
+
+    //계획 트리 전체에서 p_review (또는 그 파티션) 에 대한 Seq Scan 노드의 테이블 이름
+    private static List<String> seqScanRelations(final JsonNode plan) {
+        final List<String> relations = new ArrayList<>();
+        collectSeqScans(plan, relations);
+        return relations;
+    }
+
+    private static void collectSeqScans(final JsonNode node, final List<String> relations) {
+        if (node.isArray()) {
+            node.forEach(child -> collectSeqScans(child, relations));
+            return;
+        }
+        final String relation = node.path("Relation Name").asText();
+        if ("Seq Scan".equals(node.path("Node Type").asText()) && REVIEW_RELATION.matcher(relation).matches()) {
+            relations.add(relation);
+        }
+        if (node.has("Plan")) {
+            collectSeqScans(node.get("Plan"), relations);
+        }
+        if (node.has("Plans")) {
+            collectSeqScans(node.get("Plans"), relations);
+        }
+    }
+
+    //@Secured 는 Authentication 의 권한을, 컨트롤러는 @AuthenticationPrincipal 의 userId 를 사용
+    private static RequestPostProcessor loginAs(final long userId, final String authority) {
+        final UserDetailsImpl principal = mock(UserDetailsImpl.class);
+        given(principal.getUserId()).willReturn(userId);
+        final Authentication authentication = new UsernamePasswordAuthenticationToken(principal, null,
+                List.of(new SimpleGrantedAuthority(authority)));
+        return request -> csrf().postProcessRequest(authentication(authentication).postProcessRequest(request));
+    }
+
+    //누구나 볼 수 있는 조회 엔드포인트도 로그인한 고객으로 요청 (보안 설정의 인증 요구와 상관없이 같은 경로를 타도록)
+    private static RequestPostProcessor asViewer() {
+        return loginAs(WRITER_ID, UserRoleEnum.Authority.CUSTOMER);
+    }
+
+    private String json(final Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //측정 n 번째 요청의 인기 가게, 인기 유저 (엔드포인트마다 캐시가 따로라 테스트끼리는 겹쳐도 됨)
+    private static UUID hotStore(final int n) {
+        return storeId(1 + n % HOT_STORE_COUNT);
+    }
+
+    private static long hotUser(final int n) {
+        return 1 + n % HOT_USER_COUNT;
+    }
+
+    private static UUID nextWarmUpStore() {
+        return storeId(NEXT_WARM_UP_STORE.getAndIncrement());
+    }
+
+    private static long nextWarmUpUser() {
+        return NEXT_WARM_UP_USER.getAndIncrement();
+    }
+
+    //일반 가게의 삭제되지 않은 리뷰 - 호출할 때마다 다른 리뷰
+    private SeededReview nextReview() {
+        final UUID reviewId = reviewId(NEXT_REVIEW.getAndIncrement());
+        final Map<String, Object> row = jdbcTemplate.queryForMap("""
+                SELECT user_id, rating, review_time FROM p_review WHERE review_id = ? AND is_deleted = false
+                """, reviewId);
+        return new SeededReview(reviewId, ((Number) row.get("user_id")).longValue(),
+                ((Number) row.get("rating")).intValue(),
+                ((Timestamp) row.get("review_time")).toLocalDateTime());
+    }
+
+    //WRITER_ID 의 리뷰가 없는 주문 - 호출할 때마다 다른 주문
+    //notInFilter : 리뷰 작성 주문 필터가 "확실히 없다" 고 하는 주문만
+    private UUID nextUnreviewedOrder(final boolean notInFilter) {
+        while (true) {
+            final int order = NEXT_ORDER.getAndIncrement();
+            assertThat(order).as("리뷰가 없는 주문을 모두 사용함").isLessThanOrEqualTo(REVIEW_COUNT + UNREVIEWED_ORDER_COUNT);
+            final UUID orderHistoryId = orderHistoryId(order);
+            if (!notInFilter || !reviewedOrderFilter.mightContain(orderHistoryId)) {
+                return orderHistoryId;
+            }
+        }
+    }
+
+    private record SeededReview(UUID reviewId, long userId, int rating, LocalDateTime reviewTime) {
+    }
+}
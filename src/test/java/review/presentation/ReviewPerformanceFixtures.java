@@ -0,0 +1,299 @@
+package review.presentation;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.metamodel.mapping.ModelPartContainer;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import review.domain.repository.vo.OrderHistory;
+import review.domain.repository.vo.Review;
+import review.domain.repository.vo.User;
+import review.enums.UserRoleEnum;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+//성능 회귀 테스트 데이터 (ReviewControllerPerformanceTest)
+//데이터가 적으면 인덱스가 있어도 플래너가 Seq Scan 을 고르므로 실제 비율에 가깝게 채운다.
+//  가게 500 곳 : 1~10 번은 인기 가게 (리뷰 5000 건씩), 나머지는 300 건 정도
+//  유저 5000 명 : 1~10 번은 리뷰 1000 건씩, 101 번부터는 40 건 정도, 11 번은 리뷰 작성, 12 번은 관리자
+//  리뷰 20만 건 (최근 약 140일), 리뷰 i 는 주문 i 에 대한 리뷰
+//  리뷰가 없는 주문 2000 건 (작성 테스트용, 유저 11)
+//유저, 가게, 주문 내역은 이 모듈 밖의 엔티티라 테이블/컬럼 이름을 직접 쓰지 않고 엔티티 매핑에서 찾음
+//매핑에 있지만 이 모듈이 모르는 NOT NULL 컬럼은 컬럼 타입에 맞는 값으로 채움
+final class ReviewPerformanceFixtures {
+
+    static final int STORE_COUNT = 500;
+    static final int HOT_STORE_COUNT = 10;
+    static final int USER_COUNT = 5000;
+    static final int HOT_USER_COUNT = 10;
+    static final long WRITER_ID = 11L;
+    static final long MANAGER_ID = 12L;
+    //리뷰가 있는 일반 유저 (FIRST_NORMAL_USER_ID ~ USER_COUNT)
+    static final int FIRST_NORMAL_USER_ID = 101;
+    static final int REVIEW_COUNT = 200_000;
+    //리뷰 1 ~ HOT_STORE_REVIEW_COUNT 는 인기 가게의 리뷰
+    static final int HOT_STORE_REVIEW_COUNT = 50_000;
+    static final int UNREVIEWED_ORDER_COUNT = 2000;
+
+    //가게 s, 주문 i, 리뷰 i 의 id (테스트에서 DB 조회 없이 대상을 정할 수 있도록 규칙으로 만듦)
+    private static final String STORE_ID_PREFIX = "00000000-0000-0000-0000-";
+    private static final String ORDER_HISTORY_ID_PREFIX = "00000000-0000-0000-0001-";
+    private static final String REVIEW_ID_PREFIX = "00000000-0000-0000-0002-";
+
+    private static final String[] CONTENTS = {"배달이 빨라요 맛있어요", "양이 많고 따뜻하게 왔어요",
+            "포장이 꼼꼼해요 또 시킬게요", "조금 식어서 왔어요", "사장님이 친절해요 배달도 빨라요"};
+
+    private ReviewPerformanceFixtures() {
+    }
+
+    static UUID storeId(final int store) {
+        return UUID.fromString(STORE_ID_PREFIX + String.format("%012d", store));
+    }
+
+    static UUID orderHistoryId(final int order) {
+        return UUID.fromString(ORDER_HISTORY_ID_PREFIX + String.format("%012d", order));
+    }
+
+    static UUID reviewId(final int review) {
+        return UUID.fromString(REVIEW_ID_PREFIX + String.format("%012d", review));
+    }
+
+    //엔티티 매핑으로 만든 테이블 중 Flyway 마이그레이션이 만드는 테이블은 지움
+    //(ddl-auto 로 먼저 만들어두면 CREATE TABLE IF NOT EXISTS 가 건너뛰어져서 운영과 다른 스키마가 됨)
+    static void dropMigrationTables(final DataSource dataSource, final Set<String> migrationTables) {
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        migrationTables.forEach(table -> jdbcTemplate.execute("DROP TABLE IF EXISTS " + table + " CASCADE"));
+    }
+
+    static void seed(final EntityManagerFactory entityManagerFactory, final DataSource dataSource) {
+        final MappedTable users = MappedTable.of(entityManagerFactory, User.class,
+                "nickname.value", "role");
+        final MappedTable stores = MappedTable.of(entityManagerFactory, entityClass(entityManagerFactory, "Store"));
+        final MappedTable orderHistories = MappedTable.of(entityManagerFactory, OrderHistory.class,
+                "userId", "storeId", "completionTime");
+        final MappedTable reviews = MappedTable.of(entityManagerFactory, Review.class,
+                "orderHistory", "user", "storeId", "content.value", "rating.value", "reviewTime.value",
+                "isDeleted", "createdAt");
+
+        try (Connection connection = dataSource.getConnection()) {
+            final JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            //유저, 가게, 주문 내역이 참조하는 다른 테이블(이 모듈 밖)은 채우지 않으므로 이 연결에서만 FK 검사를 끔
+            jdbcTemplate.execute("SET session_replication_role = replica");
+            try {
+                insertUsers(jdbcTemplate, users);
+                insertStores(jdbcTemplate, stores);
+                insertReviews(jdbcTemplate, orderHistories, reviews);
+            } finally {
+                jdbcTemplate.execute("RESET session_replication_role");
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("성능 테스트 데이터 입력 실패", e);
+        }
+    }
+
+    private static void insertUsers(final JdbcTemplate jdbcTemplate, final MappedTable users) {
+        final Map<String, String> values = new LinkedHashMap<>();
+        values.put(users.idColumn(), "u");
+        values.put(users.column("nickname.value"), "'user' || u");
+        values.put(users.column("role"), "CASE WHEN u = " + MANAGER_ID + " THEN "
+                + enumValue(jdbcTemplate, users, "role", UserRoleEnum.MANAGER) + " ELSE "
+                + enumValue(jdbcTemplate, users, "role", UserRoleEnum.CUSTOMER) + " END");
+        users.insert(jdbcTemplate, values, "u", "generate_series(1, " + USER_COUNT + ") AS u");
+    }
+
+    private static void insertStores(final JdbcTemplate jdbcTemplate, final MappedTable stores) {
+        stores.insert(jdbcTemplate, Map.of(stores.idColumn(), uuid(STORE_ID_PREFIX, "s")),
+                "s", "generate_series(1, " + STORE_COUNT + ") AS s");
+    }
+
+    private static void insertReviews(final JdbcTemplate jdbcTemplate, final MappedTable orderHistories,
+                                      final MappedTable reviews) {
+        //리뷰 i 의 가게, 유저, 작성 시각 (주문과 리뷰가 같이 사용)
+        jdbcTemplate.execute("""
+                CREATE TEMPORARY TABLE seed_review AS
+                SELECT i,
+                       CASE WHEN i <= %d THEN 1 + i %% %d ELSE %d + i %% %d END AS store,
+                       CASE WHEN i %% 20 = 0 THEN 1 + (i / 20) %% %d ELSE %d + i %% %d END AS user_id,
+                       now() - make_interval(mins => i) AS written_at
+                FROM generate_series(1, %d) AS i
+                """.formatted(HOT_STORE_REVIEW_COUNT, HOT_STORE_COUNT,
+                HOT_STORE_COUNT + 1, STORE_COUNT - HOT_STORE_COUNT,
+                HOT_USER_COUNT, FIRST_NORMAL_USER_ID, USER_COUNT - FIRST_NORMAL_USER_ID + 1,
+                REVIEW_COUNT));
+
+        final Map<String, String> orders = new LinkedHashMap<>();
+        orders.put(orderHistories.idColumn(), uuid(ORDER_HISTORY_ID_PREFIX, "i"));
+        orders.put(orderHistories.column("userId"), "user_id");
+        orders.put(orderHistories.column("storeId"), uuid(STORE_ID_PREFIX, "store"));
+        orders.put(orderHistories.column("completionTime"), "written_at - interval '30 minutes'");
+        orderHistories.insert(jdbcTemplate, orders, "i", "seed_review");
+
+        //리뷰가 없는 주문 - 작성자 WRITER_ID, 하루 전에 배달 완료
+        final Map<String, String> unreviewedOrders = new LinkedHashMap<>();
+        unreviewedOrders.put(orderHistories.idColumn(), uuid(ORDER_HISTORY_ID_PREFIX, "i"));
+        unreviewedOrders.put(orderHistories.column("userId"), String.valueOf(WRITER_ID));
+        unreviewedOrders.put(orderHistories.column("storeId"),
+                uuid(STORE_ID_PREFIX, (HOT_STORE_COUNT + 1) + " + i % " + (STORE_COUNT - HOT_STORE_COUNT)));
+        unreviewedOrders.put(orderHistories.column("completionTime"), "now() - interval '1 day'");
+        orderHistories.insert(jdbcTemplate, unreviewedOrders, "i", "generate_series(%d, %d) AS i"
+                .formatted(REVIEW_COUNT + 1, REVIEW_COUNT + UNREVIEWED_ORDER_COUNT));
+
+        final Map<String, String> values = new LinkedHashMap<>();
+        values.put(reviews.idColumn(), uuid(REVIEW_ID_PREFIX, "i"));
+        values.put(reviews.column("orderHistory"), uuid(ORDER_HISTORY_ID_PREFIX, "i"));
+        values.put(reviews.column("user"), "user_id");
+        values.put(reviews.column("storeId"), uuid(STORE_ID_PREFIX, "store"));
+        values.put(reviews.column("content.value"), "(ARRAY['" + String.join("', '", CONTENTS) + "'])[1 + i % "
+                + CONTENTS.length + "]");
+        values.put(reviews.column("rating.value"), "1 + i % 5");
+        values.put(reviews.column("reviewTime.value"), "written_at");
+        values.put(reviews.column("isDeleted"), "false");
+        values.put(reviews.column("createdAt"), "written_at");
+        reviews.insert(jdbcTemplate, values, "i", "seed_review");
+
+        jdbcTemplate.execute("DROP TABLE seed_review");
+    }
+
+    //prefix + 12자리 번호 형태의 uuid SQL 식
+    private static String uuid(final String prefix, final String number) {
+        return "('" + prefix + "' || lpad((" + number + ")::text, 12, '0'))::uuid";
+    }
+
+    //@Enumerated(STRING) 이면 이름, ORDINAL 이면 순서
+    private static String enumValue(final JdbcTemplate jdbcTemplate, final MappedTable table,
+                                    final String attribute, final Enum<?> value) {
+        final String category = jdbcTemplate.queryForObject("""
+                SELECT t.typcategory::text FROM pg_attribute a JOIN pg_type t ON t.oid = a.atttypid
+                WHERE a.attrelid = ?::regclass AND a.attname = ?
+                """, String.class, table.name(), table.column(attribute));
+        return "N".equals(category) ? String.valueOf(value.ordinal()) : "'" + value.name() + "'";
+    }
+
+    //JPA 엔티티 이름으로 클래스 찾기 (이 모듈에서 직접 참조하지 않는 엔티티)
+    private static Class<?> entityClass(final EntityManagerFactory entityManagerFactory, final String name) {
+        return entityManagerFactory.getMetamodel().getEntities().stream()
+                .filter(entity -> entity.getName().equals(name))
+                .map(EntityType::getJavaType)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("엔티티 매핑이 없음 : " + name));
+    }
+
+    //엔티티 하나의 테이블 이름과 속성별 컬럼 이름 (Hibernate 매핑 기준)
+    private record MappedTable(String name, String idColumn, Map<String, String> columns) {
+
+        static MappedTable of(final EntityManagerFactory entityManagerFactory, final Class<?> entityClass,
+                              final String... attributes) {
+            final EntityPersister persister = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getMappingMetamodel()
+                    .getEntityDescriptor(entityClass);
+
+            final List<String> idColumns = new ArrayList<>();
+            final String[] table = new String[1];
+            persister.getIdentifierMapping().forEachSelectable((index, selectable) -> {
+                idColumns.add(selectable.getSelectionExpression());
+                table[0] = selectable.getContainingTableExpression();
+            });
+            if (idColumns.size() != 1) {
+                throw new IllegalStateException(entityClass.getSimpleName() + " 의 id 컬럼이 하나가 아님 : " + idColumns);
+            }
+
+            final Map<String, String> columns = new LinkedHashMap<>();
+            for (String attribute : attributes) {
+                columns.put(attribute, column(persister, entityClass, attribute));
+            }
+            return new MappedTable(table[0], idColumns.get(0), columns);
+        }
+
+        //"nickname.value" 처럼 임베디드 속성은 점으로 구분, 연관 관계(@ManyToOne)는 외래키 컬럼
+        private static String column(final EntityPersister persister, final Class<?> entityClass,
+                                     final String attribute) {
+            ModelPart part = persister;
+            for (String name : attribute.split("\\.")) {
+                part = part instanceof ModelPartContainer container ? container.findSubPart(name, null) : null;
+                if (part == null) {
+                    throw new IllegalStateException(entityClass.getSimpleName() + " 에 매핑된 속성이 없음 : " + attribute);
+                }
+            }
+            final List<String> columns = new ArrayList<>();
+            part.forEachSelectable((index, selectable) -> columns.add(selectable.getSelectionExpression()));
+            if (columns.size() != 1) {
+                throw new IllegalStateException(entityClass.getSimpleName() + "." + attribute
+                        + " 의 컬럼이 하나가 아님 : " + columns);
+            }
+            return columns.get(0);
+        }
+
+        String column(final String attribute) {
+            return columns.get(attribute);
+        }
+
+        //INSERT INTO 테이블 (values 의 컬럼 + 나머지 NOT NULL 컬럼) SELECT ... FROM from
+        //key : row 마다 다른 정수 SQL 식 (유니크 제약이 있을 수 있는 컬럼 값에 사용)
+        void insert(final JdbcTemplate jdbcTemplate, final Map<String, String> values, final String key,
+                    final String from) {
+            final Map<String, String> all = new LinkedHashMap<>(values);
+            for (RequiredColumn column : requiredColumns(jdbcTemplate)) {
+                all.putIfAbsent(column.name(), column.value(key));
+            }
+            jdbcTemplate.execute("INSERT INTO " + name + " (" + String.join(", ", all.keySet()) + ") SELECT "
+                    + String.join(", ", all.values()) + " FROM " + from);
+        }
+
+        //기본값이 없는 NOT NULL 컬럼 (엔티티에는 있지만 이 모듈이 값을 모르는 컬럼)
+        private List<RequiredColumn> requiredColumns(final JdbcTemplate jdbcTemplate) {
+            return jdbcTemplate.query("""
+                    SELECT a.attname, format_type(a.atttypid, a.atttypmod) AS column_type,
+                           t.typname, t.typcategory::text AS category,
+                           (SELECT substring(pg_get_constraintdef(c.oid) FROM '''([^'']*)''')
+                            FROM pg_constraint c
+                            WHERE c.conrelid = a.attrelid AND c.contype = 'c' AND a.attnum = ANY (c.conkey)
+                            LIMIT 1) AS check_literal,
+                           EXISTS (SELECT 1 FROM pg_constraint c
+                                   WHERE c.conrelid = a.attrelid AND c.contype = 'c'
+                                     AND a.attnum = ANY (c.conkey)) AS checked
+                    FROM pg_attribute a
+                    JOIN pg_type t ON t.oid = a.atttypid
+                    WHERE a.attrelid = ?::regclass AND a.attnum > 0 AND NOT a.attisdropped
+                      AND a.attnotnull AND NOT a.atthasdef AND a.attidentity = '' AND a.attgenerated = ''
+                    ORDER BY a.attnum
+                    """, (rs, rowNum) -> new RequiredColumn(rs.getString("attname"), rs.getString("column_type"),
+                    rs.getString("typname"), rs.getString("category"), rs.getString("check_literal"),
+                    rs.getBoolean("checked")), name);
+        }
+    }
+
+    private record RequiredColumn(String name, String type, String typeName, String category,
+                                  String checkLiteral, boolean checked) {
+
+        String value(final String key) {
+            final String value = switch (category) {
+                //enum 을 문자열로 저장하는 컬럼은 CHECK (col IN ('A', ...)) 의 첫 값
+                case "S" -> checkLiteral != null ? "'" + checkLiteral.replace("'", "''") + "'" : "(" + key + ")::text";
+                //enum 순서(CHECK col BETWEEN 0 AND n) 등 범위 제약이 있으면 0
+                case "N" -> checked ? "0" : "smallint".equals(type) ? "(" + key + ") % 32767" : "(" + key + ")";
+                case "B" -> "false";
+                case "D" -> "now()";
+                case "E" -> "(enum_range(NULL::" + type + "))[1]";
+                default -> switch (typeName) {
+                    case "uuid" -> "md5('" + name + "-' || (" + key + "))::uuid";
+                    case "json", "jsonb" -> "'{}'";
+                    case "bytea" -> "''";
+                    default -> throw new IllegalStateException("성능 테스트 데이터로 채울 수 없는 컬럼 타입 : "
+                            + name + " " + type);
+                };
+            };
+            return "(" + value + ")::" + type;
+        }
+    }
+}
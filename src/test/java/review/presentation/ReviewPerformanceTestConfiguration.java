@@ -0,0 +1,82 @@
+package review.presentation;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+//성능 회귀 테스트용 DB 준비
+//1. 엔티티 매핑으로 테이블 생성 (ddl-auto: create, application-test.yml) - Flyway 가 가정하는 기존 스키마
+//   Flyway 마이그레이션이 만드는 테이블은 지우고 마이그레이션으로 다시 만듦
+//2. 실제 비율에 가까운 데이터 입력 (ReviewPerformanceFixtures)
+//3. Flyway 마이그레이션 적용 - 인덱스, 별점 분포/유저 리뷰 개수 backfill 이 운영과 같은 순서로 실행됨
+//4. VACUUM ANALYZE - 통계와 visibility map 이 있어야 운영과 같은 실행 계획이 나옴
+//모두 ApplicationReadyEvent(필터/색인 준비, 실행 계획 검사) 전에 끝남
+@TestConfiguration(proxyBeanMethods = false)
+class ReviewPerformanceTestConfiguration {
+
+    private static final Pattern CREATE_TABLE = Pattern.compile(
+            "(?i)CREATE\\s+TABLE\\s+(?:IF\\s+NOT\\s+EXISTS\\s+)?(\\w+)");
+
+    @Bean
+    @ServiceConnection
+    PostgreSQLContainer<?> postgres() {
+        return new PostgreSQLContainer<>("postgres:16-alpine");
+    }
+
+    //시작 시 마이그레이션은 건너뛰고 아래에서 데이터를 넣은 뒤 실행
+    @Bean
+    FlywayMigrationStrategy deferredMigration() {
+        return flyway -> {
+        };
+    }
+
+    @Bean
+    SmartInitializingSingleton seedAndMigrate(Flyway flyway, EntityManagerFactory entityManagerFactory,
+                                              DataSource dataSource) {
+        return () -> {
+            ReviewPerformanceFixtures.dropMigrationTables(dataSource, migrationTables());
+            ReviewPerformanceFixtures.seed(entityManagerFactory, dataSource);
+            flyway.migrate();
+            new JdbcTemplate(dataSource).execute("VACUUM ANALYZE");
+        };
+    }
+
+    @Bean
+    SqlCaptureListener sqlCaptureListener() {
+        return new SqlCaptureListener();
+    }
+
+    //SQL 마이그레이션(db/migration)에서 CREATE TABLE 하는 테이블
+    private static Set<String> migrationTables() {
+        final Set<String> tables = new LinkedHashSet<>();
+        try {
+            for (Resource script : new PathMatchingResourcePatternResolver()
+                    .getResources("classpath:db/migration/*.sql")) {
+                final Matcher matcher = CREATE_TABLE.matcher(script.getContentAsString(StandardCharsets.UTF_8));
+                while (matcher.find()) {
+                    tables.add(matcher.group(1));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tables;
+    }
+}
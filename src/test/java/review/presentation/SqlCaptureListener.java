@@ -0,0 +1,57 @@
+package review.presentation;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+//테스트용 p6spy 리스너 - 요청 하나 동안 실행된 SQL 을 값이 채워진 형태로 모음
+//SqlStatementListener 와 같은 기준(onAfterAnyExecute 한 번 = SQL 한 개)으로 세고,
+//실행 계획 검사를 위해 SQL 문장도 같이 보관
+//MockMvc 요청은 테스트 스레드에서 그대로 실행되므로 스레드별로 모음
+//createReview 사전 검증처럼 요청 중에 만든 가상 스레드의 SQL 도 같은 목록에 모이도록 InheritableThreadLocal
+class SqlCaptureListener extends JdbcEventListener {
+
+    private static final InheritableThreadLocal<List<CapturedSql>> CURRENT = new InheritableThreadLocal<>();
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos,
+                                  SQLException e) {
+        add(statementInformation, false);
+    }
+
+    //batch 는 SQL 한 개로 세지만 마지막 묶음 값만 남아 있으므로 실행 계획 검사에서는 제외
+    @Override
+    public void onAfterExecuteBatch(StatementInformation statementInformation, long timeElapsedNanos,
+                                    int[] updateCounts, SQLException e) {
+        add(statementInformation, true);
+    }
+
+    void begin() {
+        CURRENT.set(Collections.synchronizedList(new ArrayList<>()));
+    }
+
+    List<CapturedSql> end() {
+        final List<CapturedSql> captured = CURRENT.get();
+        CURRENT.remove();
+        return captured == null ? List.of() : List.copyOf(captured);
+    }
+
+    private static void add(final StatementInformation statementInformation, final boolean batch) {
+        final List<CapturedSql> captured = CURRENT.get();
+        if (captured != null) {
+            captured.add(new CapturedSql(statementInformation.getSqlWithValues(), batch));
+        }
+    }
+
+    record CapturedSql(String sql, boolean batch) {
+
+        @Override
+        public String toString() {
+            return (batch ? "[batch] " : "") + sql;
+        }
+    }
+}